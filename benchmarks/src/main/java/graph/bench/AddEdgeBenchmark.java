@@ -0,0 +1,58 @@
+package graph.bench;
+
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of addEdge on a graph that is still loading. Each invocation adds a fixed batch
+ * of PAIRS edges to a graph created just before it, outside the timing, so the edge buffer
+ * never holds more than one batch; the score is reported per addEdge call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AddEdgeBenchmark {
+    private static final int PAIRS = 1 << 16;
+
+    @Param({"1000", "100000"})
+    public int vertices;
+
+    private List<String> names;
+    private String[] sources;
+    private String[] destinations;
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setUpPairs() {
+        names = SyntheticGraphs.vertexNames(vertices);
+        Random random = new Random(42);
+        sources = new String[PAIRS];
+        destinations = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            sources[i] = names.get(random.nextInt(vertices));
+            destinations[i] = names.get(random.nextInt(vertices));
+        }
+    }
+
+    // A batch takes milliseconds, so per-invocation setup does not distort the timing
+    @Setup(Level.Invocation)
+    public void setUpGraph() {
+        graph = new Graph(names, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public Graph addEdge() {
+        for (int i = 0; i < PAIRS; i++) {
+            graph.addEdge(sources[i], destinations[i], 1.0);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,62 @@
+package graph.bench;
+
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a graph from scratch: constructor, every addEdge call and the final freeze.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int vertices;
+
+    @Param({"SPARSE", "DENSE", "POWER_LAW"})
+    public GraphShape shape;
+
+    private List<String> names;
+    private String[] sources;
+    private String[] destinations;
+    private double[] weights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = SyntheticGraphs.vertexNames(vertices);
+        int[][] edges = SyntheticGraphs.edges(shape, vertices, 42);
+        int m = edges[0].length;
+        sources = new String[m];
+        destinations = new String[m];
+        weights = new double[m];
+        Random random = new Random(43);
+        for (int e = 0; e < m; e++) {
+            sources[e] = names.get(edges[0][e]);
+            destinations[e] = names.get(edges[1][e]);
+            weights[e] = 1 + random.nextInt(8);
+        }
+    }
+
+    @Benchmark
+    public Graph construct() {
+        return new Graph(names, false);
+    }
+
+    @Benchmark
+    public Graph constructAndLoad() {
+        Graph graph = new Graph(names, false);
+        for (int e = 0; e < sources.length; e++) {
+            graph.addEdge(sources[e], destinations[e], weights[e]);
+        }
+        graph.freeze();
+        return graph;
+    }
+}
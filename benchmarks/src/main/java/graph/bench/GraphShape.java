@@ -0,0 +1,13 @@
+package graph.bench;
+
+/**
+ * Degree distributions used by the synthetic benchmark graphs.
+ */
+public enum GraphShape {
+    /** Uniformly random edges, average degree 4. */
+    SPARSE,
+    /** Uniformly random edges, average degree min(V / 10, 256). */
+    DENSE,
+    /** Chung-Lu graph with a power-law degree sequence (exponent 2.5), average degree 8. */
+    POWER_LAW
+}
@@ -0,0 +1,55 @@
+package graph.bench;
+
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of fetching and iterating one vertex's neighbors through getNeighbors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NeighborBenchmark {
+    private static final int PROBES = 4096;
+
+    @Param({"1000", "100000"})
+    public int vertices;
+
+    @Param({"SPARSE", "DENSE", "POWER_LAW"})
+    public GraphShape shape;
+
+    private Graph graph;
+    private String[] probes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = SyntheticGraphs.build(shape, vertices, 42);
+        Random random = new Random(7);
+        probes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = graph.getVertexName(random.nextInt(vertices));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public double sumNeighborWeights(Cursor cursor) {
+        List<Graph.Edge> neighbors = graph.getNeighbors(probes[cursor.next++ & (PROBES - 1)]);
+        double sum = 0;
+        for (Graph.Edge edge : neighbors) {
+            sum += edge.getWeight();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,84 @@
+package graph.bench;
+
+import graph.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic graphs for the benchmarks. Edges are returned as parallel
+ * source/destination name arrays so benchmarks can replay them through the public API.
+ */
+final class SyntheticGraphs {
+    private static final double POWER_LAW_EXPONENT = 2.5;
+
+    private SyntheticGraphs() {
+    }
+
+    static List<String> vertexNames(int n) {
+        List<String> names = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            names.add("v" + i);
+        }
+        return names;
+    }
+
+    static int edgeCount(GraphShape shape, int n) {
+        switch (shape) {
+            case SPARSE: return n * 2;
+            case DENSE: return (int) Math.min((long) n * Math.min(n / 10, 256) / 2, Integer.MAX_VALUE);
+            default: return n * 4;
+        }
+    }
+
+    /** Returns {sources, destinations} as vertex indices; undirected edge count is edgeCount(shape, n). */
+    static int[][] edges(GraphShape shape, int n, long seed) {
+        Random random = new Random(seed);
+        int m = edgeCount(shape, n);
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+
+        if (shape == GraphShape.POWER_LAW) {
+            // Chung-Lu: pick both endpoints with probability proportional to an expected degree
+            double[] cumulative = new double[n];
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                total += Math.pow(i + 1, -1.0 / (POWER_LAW_EXPONENT - 1));
+                cumulative[i] = total;
+            }
+            for (int e = 0; e < m; e++) {
+                sources[e] = sample(cumulative, random.nextDouble() * total);
+                destinations[e] = sample(cumulative, random.nextDouble() * total);
+            }
+        } else {
+            for (int e = 0; e < m; e++) {
+                sources[e] = random.nextInt(n);
+                destinations[e] = random.nextInt(n);
+            }
+        }
+        return new int[][] {sources, destinations};
+    }
+
+    static Graph build(GraphShape shape, int n, long seed) {
+        List<String> names = vertexNames(n);
+        Graph graph = new Graph(names, false);
+        int[][] edges = edges(shape, n, seed);
+        Random weights = new Random(seed + 1);
+        for (int e = 0; e < edges[0].length; e++) {
+            graph.addEdge(names.get(edges[0][e]), names.get(edges[1][e]), 1 + weights.nextInt(8));
+        }
+        graph.freeze();
+        return graph;
+    }
+
+    private static int sample(double[] cumulative, double value) {
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,73 @@
+package graph.bench;
+
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BFS and DFS from random start vertices, through both the name-based and index-based APIs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraversalBenchmark {
+    private static final int STARTS = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    public int vertices;
+
+    @Param({"SPARSE", "DENSE", "POWER_LAW"})
+    public GraphShape shape;
+
+    private Graph graph;
+    private int[] startIndices;
+    private String[] startNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = SyntheticGraphs.build(shape, vertices, 42);
+        Random random = new Random(7);
+        startIndices = new int[STARTS];
+        startNames = new String[STARTS];
+        for (int i = 0; i < STARTS; i++) {
+            startIndices[i] = random.nextInt(vertices);
+            startNames[i] = graph.getVertexName(startIndices[i]);
+        }
+    }
+
+    /** Cycles through the precomputed start vertices. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            return next++ & (STARTS - 1);
+        }
+    }
+
+    @Benchmark
+    public List<String> bfs(Cursor cursor) {
+        return graph.bfs(startNames[cursor.advance()]);
+    }
+
+    @Benchmark
+    public int[] bfsIndices(Cursor cursor) {
+        return graph.bfsIndices(startIndices[cursor.advance()]);
+    }
+
+    @Benchmark
+    public List<String> dfs(Cursor cursor) {
+        return graph.dfs(startNames[cursor.advance()]);
+    }
+
+    @Benchmark
+    public int[] dfsIndices(Cursor cursor) {
+        return graph.dfsIndices(startIndices[cursor.advance()]);
+    }
+}
@@ -0,0 +1,52 @@
+package graph.bench;
+
+import graph.BspResult;
+import graph.Graph;
+import graph.VertexPrograms;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk-synchronous vertex programs across worker counts, to measure how the thread engine scales.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VertexProgramBenchmark {
+    private static final int MAX_SUPERSTEPS = 1000;
+
+    @Param({"1000000"})
+    public int vertices;
+
+    @Param({"SPARSE", "POWER_LAW"})
+    public GraphShape shape;
+
+    @Param({"1", "2", "4", "8"})
+    public int workers;
+
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = SyntheticGraphs.build(shape, vertices, 42);
+    }
+
+    @Benchmark
+    public BspResult connectedComponents() {
+        return graph.runVertexProgram(VertexPrograms.connectedComponents(), workers, MAX_SUPERSTEPS);
+    }
+
+    @Benchmark
+    public BspResult shortestPaths() {
+        return graph.runVertexProgram(VertexPrograms.shortestPaths(0), workers, MAX_SUPERSTEPS);
+    }
+
+    @Benchmark
+    public BspResult pageRank() {
+        return graph.runVertexProgram(VertexPrograms.pageRank(10, 0.85), workers, MAX_SUPERSTEPS);
+    }
+}
@@ -0,0 +1,76 @@
+package graph;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Adjacency list as a table with one row per vertex index. Cells are read from the graph's
+ * store when the table asks for them, so a JTable only formats the rows in view and the
+ * model holds no per-row state. Long neighbor lists are cut to a preview.
+ */
+final class AdjacencyListTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private static final String[] COLUMNS = {"#", "Vertex", "Degree", "Neighbors"};
+    // Neighbors formatted per cell; the rest are counted
+    private static final int NEIGHBOR_PREVIEW = 64;
+
+    private final Graph graph;
+
+    AdjacencyListTableModel(Graph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public int getRowCount() {
+        return graph.getNumVertices();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 0 || column == 2 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case 0:
+                return row;
+            case 1:
+                return vertexName(row);
+            case 2:
+                return graph.store().degree(row);
+            default:
+                return neighbors(row);
+        }
+    }
+
+    private String vertexName(int vertex) {
+        String name = graph.getVertexName(vertex);
+        return name == null ? "(removed)" : name;
+    }
+
+    private String neighbors(int vertex) {
+        AdjacencyStore adj = graph.store();
+        int degree = adj.degree(vertex);
+        if (degree == 0) return "[No Neighbors]";
+        StringBuilder text = new StringBuilder();
+        long start = adj.edgeStart(vertex);
+        for (int i = 0, shown = Math.min(degree, NEIGHBOR_PREVIEW); i < shown; i++) {
+            if (i > 0) text.append(", ");
+            text.append(vertexName(adj.target(start + i))).append('(').append(String.format("%.0f", adj.weight(start + i))).append(')');
+        }
+        if (degree > NEIGHBOR_PREVIEW) {
+            text.append(", ... ").append(degree - NEIGHBOR_PREVIEW).append(" more");
+        }
+        return text.toString();
+    }
+}
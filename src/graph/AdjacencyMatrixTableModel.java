@@ -0,0 +1,67 @@
+package graph;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Adjacency matrix as a table: column 0 names the row's vertex, the others hold edge weights
+ * (Double.POSITIVE_INFINITY where there is no edge). Every cell is a single getEdgeWeight
+ * lookup made when the table paints it, so no row or matrix is ever materialized.
+ *
+ * JTable keeps one TableColumn per model column, so the model shows a window of at most
+ * {@code window} target vertices starting at {@link #getFirstColumn()}; rows are not limited.
+ */
+final class AdjacencyMatrixTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private final Graph graph;
+    private final int window;
+    private int firstColumn;
+
+    AdjacencyMatrixTableModel(Graph graph, int window) {
+        this.graph = graph;
+        this.window = window;
+    }
+
+    /** Index of the vertex shown in the first weight column. */
+    int getFirstColumn() {
+        return firstColumn;
+    }
+
+    /** Move the column window to start at the vertex, clamped to the vertex range. */
+    void setFirstColumn(int vertex) {
+        int clamped = Math.max(0, Math.min(vertex, graph.getNumVertices() - 1));
+        if (clamped == firstColumn) return;
+        firstColumn = clamped;
+        fireTableStructureChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return graph.getNumVertices();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return 1 + Math.max(0, Math.min(window, graph.getNumVertices() - firstColumn));
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return column == 0 ? "" : vertexName(firstColumn + column - 1);
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 0 ? String.class : Double.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (column == 0) return vertexName(row);
+        return graph.getEdgeWeight(row, firstColumn + column - 1);
+    }
+
+    private String vertexName(int vertex) {
+        String name = graph.getVertexName(vertex);
+        return name == null ? "(removed)" : name;
+    }
+}
@@ -0,0 +1,25 @@
+package graph;
+
+/**
+ * Read-only adjacency storage behind {@link Graph}.
+ * The out-edges of vertex v occupy the edge ids [edgeStart(v), edgeEnd(v)),
+ * sorted by ascending target index with no duplicate targets.
+ */
+interface AdjacencyStore {
+
+    int numVertices();
+
+    long numEdges();
+
+    long edgeStart(int vertex);
+
+    long edgeEnd(int vertex);
+
+    int target(long edge);
+
+    double weight(long edge);
+
+    default int degree(int vertex) {
+        return (int) (edgeEnd(vertex) - edgeStart(vertex));
+    }
+}
@@ -0,0 +1,48 @@
+package graph;
+
+/**
+ * All-pairs shortest path distances with a next-hop matrix for path reconstruction.
+ * Both matrices are stored row-major in flat arrays of size V * V.
+ */
+public class AllPairsShortestPaths {
+    private final int n;
+    private final double[] distances;
+    private final int[] nextHops;
+
+    AllPairsShortestPaths(int n, double[] distances, int[] nextHops) {
+        this.n = n;
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    public int getNumVertices() {
+        return n;
+    }
+
+    /** @return the shortest distance, or Double.POSITIVE_INFINITY if unreachable */
+    public double getDistance(int source, int destination) {
+        return distances[source * n + destination];
+    }
+
+    /** @return the vertex after source on a shortest path to destination, or -1 if unreachable */
+    public int getNextHop(int source, int destination) {
+        return nextHops[source * n + destination];
+    }
+
+    /**
+     * Vertex indices from source to destination inclusive,
+     * or an empty array if the destination is unreachable.
+     */
+    public int[] getPath(int source, int destination) {
+        if (nextHops[source * n + destination] < 0) return new int[0];
+        int length = 1;
+        for (int v = source; v != destination; v = nextHops[v * n + destination]) length++;
+        int[] path = new int[length];
+        int v = source;
+        for (int i = 0; i < length; i++) {
+            path[i] = v;
+            v = nextHops[v * n + destination];
+        }
+        return path;
+    }
+}
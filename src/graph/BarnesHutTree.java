@@ -0,0 +1,168 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Array-backed quadtree for Barnes-Hut repulsion.
+ * Every node keeps the mass and coordinate sums of the bodies below it, so a distant subtree
+ * acts as a single body at its center of mass. Node storage is reused across rebuilds.
+ * Bodies closer together than MAX_DEPTH subdivisions share a leaf.
+ */
+final class BarnesHutTree {
+    private static final int MAX_DEPTH = 48;
+    private static final int EMPTY = -1;
+    private static final int INTERNAL = -2;
+
+    private int nodeCount;
+    private double[] x0, y0, size;
+    private double[] mass, sumX, sumY;
+    private int[] firstChild;
+    private int[] body;
+
+    BarnesHutTree(int expectedBodies) {
+        allocate(Math.max(16, 2 * expectedBodies));
+    }
+
+    private void allocate(int capacity) {
+        x0 = new double[capacity];
+        y0 = new double[capacity];
+        size = new double[capacity];
+        mass = new double[capacity];
+        sumX = new double[capacity];
+        sumY = new double[capacity];
+        firstChild = new int[capacity];
+        body = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = x0.length << 1;
+        x0 = Arrays.copyOf(x0, capacity);
+        y0 = Arrays.copyOf(y0, capacity);
+        size = Arrays.copyOf(size, capacity);
+        mass = Arrays.copyOf(mass, capacity);
+        sumX = Arrays.copyOf(sumX, capacity);
+        sumY = Arrays.copyOf(sumY, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        body = Arrays.copyOf(body, capacity);
+    }
+
+    /** Rebuild the tree over the first n bodies. */
+    void build(double[] xs, double[] ys, int n) {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        double side = Math.max(Math.max(maxX - minX, maxY - minY), 1e-6) * 1.0001;
+
+        nodeCount = 0;
+        newNode(minX, minY, side);
+        for (int i = 0; i < n; i++) {
+            insert(i, xs[i], ys[i], xs, ys);
+        }
+    }
+
+    private int newNode(double x, double y, double side) {
+        if (nodeCount == x0.length) grow();
+        int node = nodeCount++;
+        x0[node] = x;
+        y0[node] = y;
+        size[node] = side;
+        mass[node] = 0;
+        sumX[node] = 0;
+        sumY[node] = 0;
+        firstChild[node] = -1;
+        body[node] = EMPTY;
+        return node;
+    }
+
+    private void insert(int b, double x, double y, double[] xs, double[] ys) {
+        int node = 0;
+        for (int depth = 0; ; depth++) {
+            mass[node] += 1;
+            sumX[node] += x;
+            sumY[node] += y;
+
+            if (firstChild[node] < 0) {
+                if (body[node] == EMPTY) {
+                    body[node] = b;
+                    return;
+                }
+                if (depth >= MAX_DEPTH) return;
+
+                // Split the leaf and push its body one level down
+                int old = body[node];
+                split(node);
+                int child = childFor(node, xs[old], ys[old]);
+                mass[child] = 1;
+                sumX[child] = xs[old];
+                sumY[child] = ys[old];
+                body[child] = old;
+            }
+            node = childFor(node, x, y);
+        }
+    }
+
+    private void split(int node) {
+        double half = size[node] / 2;
+        int first = newNode(x0[node], y0[node], half);
+        newNode(x0[node] + half, y0[node], half);
+        newNode(x0[node], y0[node] + half, half);
+        newNode(x0[node] + half, y0[node] + half, half);
+        firstChild[node] = first;
+        body[node] = INTERNAL;
+    }
+
+    private int childFor(int node, double x, double y) {
+        double half = size[node] / 2;
+        int quadrant = (x >= x0[node] + half ? 1 : 0) + (y >= y0[node] + half ? 2 : 0);
+        return firstChild[node] + quadrant;
+    }
+
+    /** Scratch stack large enough for {@link #repulsion}. */
+    static int[] newStack() {
+        return new int[3 * (MAX_DEPTH + 1) + 4];
+    }
+
+    /**
+     * Fruchterman-Reingold repulsion k2 / d on body i, approximated with opening angle theta.
+     * Adds the force to force[0], force[1].
+     */
+    void repulsion(int i, double xi, double yi, double theta, double k2, int[] stack, double[] force) {
+        double theta2 = theta * theta;
+        double fx = 0, fy = 0;
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            double m = mass[node];
+            if (m == 0) continue;
+            double dx = xi - sumX[node] / m;
+            double dy = yi - sumY[node] / m;
+            double d2 = dx * dx + dy * dy;
+
+            if (firstChild[node] < 0) {
+                if (body[node] == i) {
+                    if (m == 1) continue;
+                    m -= 1;
+                }
+            } else if (size[node] * size[node] >= theta2 * d2) {
+                int child = firstChild[node];
+                stack[top++] = child;
+                stack[top++] = child + 1;
+                stack[top++] = child + 2;
+                stack[top++] = child + 3;
+                continue;
+            }
+            if (d2 < 1e-12) continue;
+            double f = k2 * m / d2;
+            fx += dx * f;
+            fy += dy * f;
+        }
+        force[0] += fx;
+        force[1] += fy;
+    }
+}
@@ -0,0 +1,43 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Result of a level-synchronous BFS: the visit order plus the size of every level.
+ * Level 0 is the start vertex; level k holds the vertices k hops away.
+ */
+public class BfsLevels {
+    private final int[] order;
+    private final int[] levelSizes;
+
+    BfsLevels(int[] order, int[] levelSizes) {
+        this.order = order;
+        this.levelSizes = levelSizes;
+    }
+
+    /** Vertex indices in BFS order, identical to {@link Graph#bfsIndices(int)}. */
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    /** Number of vertices in each level (the frontier size per step). */
+    public int[] getLevelSizes() {
+        return levelSizes.clone();
+    }
+
+    public int getLevelCount() {
+        return levelSizes.length;
+    }
+
+    /** Vertex indices of one level, in BFS order. */
+    public int[] getLevel(int level) {
+        int from = 0;
+        for (int i = 0; i < level; i++) from += levelSizes[i];
+        return Arrays.copyOfRange(order, from, from + levelSizes[level]);
+    }
+
+    @Override
+    public String toString() {
+        return "BfsLevels(reached=" + order.length + ", levels=" + Arrays.toString(levelSizes) + ")";
+    }
+}
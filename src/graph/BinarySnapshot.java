@@ -0,0 +1,264 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary snapshot of a {@link Graph}, reopened by memory-mapping instead of parsing.
+ *
+ * Layout (little-endian, every section 8-byte aligned):
+ * <pre>
+ *   header   magic "GRPH", version, flags (bit 0 = directed), numVertices, numEdges,
+ *            section offsets for names / offsets / targets / weights, CRC32C of the body
+ *   names    int[numVertices + 1] byte offsets into a UTF-8 blob, then the blob;
+ *            a removed vertex is the single byte 0xFF, which is never valid UTF-8
+ *   offsets  long[numVertices + 1] CSR row starts
+ *   targets  int[numEdges]
+ *   weights  double[numEdges]
+ * </pre>
+ * The checksum covers everything after the header. Opening maps the CSR sections as they are,
+ * so edge pages are only read from disk when a query touches them; only the vertex names and
+ * the row offsets are read up front, and are checked along with the header's section layout
+ * so a truncated or mangled file fails at open rather than during a query.
+ */
+public final class BinarySnapshot {
+    private static final int MAGIC = 0x48505247; // "GRPH"
+    private static final int VERSION = 1;
+    private static final int FLAG_DIRECTED = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final byte[] REMOVED_NAME = {(byte) 0xFF};
+
+    private BinarySnapshot() {
+    }
+
+    public static void write(Graph graph, Path file) throws IOException {
+        AdjacencyStore adj = graph.store();
+        int n = adj.numVertices();
+        long m = adj.numEdges();
+
+        byte[][] names = new byte[n][];
+        long blobSize = 0;
+        for (int v = 0; v < n; v++) {
+            String name = graph.getVertexName(v);
+            names[v] = name == null ? REMOVED_NAME : name.getBytes(StandardCharsets.UTF_8);
+            blobSize += names[v].length;
+        }
+        if (blobSize > Integer.MAX_VALUE) {
+            throw new IOException("Vertex names exceed 2 GB");
+        }
+
+        long namesOffset = HEADER_SIZE;
+        long offsetsOffset = align(namesOffset + 4L * (n + 1) + blobSize);
+        long targetsOffset = align(offsetsOffset + 8L * (n + 1));
+        long weightsOffset = align(targetsOffset + 4L * m);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SectionWriter out = new SectionWriter(channel, HEADER_SIZE);
+
+            int nameOffset = 0;
+            for (int v = 0; v < n; v++) {
+                out.putInt(nameOffset);
+                nameOffset += names[v].length;
+            }
+            out.putInt(nameOffset);
+            for (byte[] name : names) out.putBytes(name);
+            out.padTo(offsetsOffset);
+
+            for (int v = 0; v < n; v++) out.putLong(adj.edgeStart(v));
+            out.putLong(m);
+            out.padTo(targetsOffset);
+
+            for (long e = 0; e < m; e++) out.putInt(adj.target(e));
+            out.padTo(weightsOffset);
+
+            for (long e = 0; e < m; e++) out.putDouble(adj.weight(e));
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(graph.isDirected() ? FLAG_DIRECTED : 0).putInt(n);
+            header.putLong(m).putLong(namesOffset).putLong(offsetsOffset).putLong(targetsOffset).putLong(weightsOffset);
+            header.putLong(out.checksum());
+            header.flip();
+            channel.write(header, 0);
+        }
+    }
+
+    /** Opens a snapshot without verifying its checksum, so edge pages load lazily. */
+    public static Graph open(Path file) throws IOException {
+        return open(file, false);
+    }
+
+    /**
+     * Opens a snapshot by mapping it into memory.
+     * @param verify Whether to check the CRC32C first, which reads the whole file
+     * @throws IOException if the file is not a snapshot, has an unsupported version, a header
+     *         whose sections do not fit the file, or fails verification
+     */
+    public static Graph open(Path file, boolean verify) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) throw new IOException("Not a graph snapshot: " + file);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            header.flip();
+
+            if (header.getInt() != MAGIC) throw new IOException("Not a graph snapshot: " + file);
+            int version = header.getInt();
+            if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+            boolean directed = (header.getInt() & FLAG_DIRECTED) != 0;
+            int n = header.getInt();
+            long m = header.getLong();
+            long namesOffset = header.getLong();
+            long offsetsOffset = header.getLong();
+            long targetsOffset = header.getLong();
+            long weightsOffset = header.getLong();
+            long checksum = header.getLong();
+            checkLayout(file, fileSize, n, m, namesOffset, offsetsOffset, targetsOffset, weightsOffset);
+
+            if (verify) {
+                BufferRegion body = BufferRegion.map(channel, FileChannel.MapMode.READ_ONLY, HEADER_SIZE, fileSize - HEADER_SIZE);
+                CRC32C crc = new CRC32C();
+                for (ByteBuffer page : body.pages()) crc.update(page);
+                if (crc.getValue() != checksum) throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+
+            List<String> vertices = readNames(file, channel, namesOffset, offsetsOffset, n);
+            BufferRegion offsets = BufferRegion.map(channel, FileChannel.MapMode.READ_ONLY, offsetsOffset, 8L * (n + 1));
+            checkOffsets(file, offsets, n, m);
+            BufferCsrStore store = new BufferCsrStore(n, m, offsets,
+                    BufferRegion.map(channel, FileChannel.MapMode.READ_ONLY, targetsOffset, 4L * m),
+                    BufferRegion.map(channel, FileChannel.MapMode.READ_ONLY, weightsOffset, 8L * m));
+            return new Graph(vertices, directed, store);
+        }
+    }
+
+    /**
+     * Checks that the header's sections are in order, aligned and sized for its vertex and
+     * edge counts, and that they exactly fill the file. This is cheap and catches truncated
+     * or mangled headers at open; corrupt section contents are left to the checksum.
+     */
+    private static void checkLayout(Path file, long fileSize, int n, long m, long namesOffset,
+                                    long offsetsOffset, long targetsOffset, long weightsOffset) throws IOException {
+        if (n < 0 || m < 0) throw corrupt(file, "negative vertex or edge count");
+        if (m > (fileSize - HEADER_SIZE) / 12) throw new IOException("Truncated graph snapshot: " + file);
+        if (namesOffset != HEADER_SIZE) throw corrupt(file, "names section at " + namesOffset);
+        if ((offsetsOffset | targetsOffset | weightsOffset) % 8 != 0) throw corrupt(file, "unaligned section offset");
+        if (offsetsOffset < namesOffset + 4L * (n + 1)
+                || targetsOffset < offsetsOffset + 8L * (n + 1)
+                || weightsOffset < targetsOffset + 4 * m) {
+            throw corrupt(file, "overlapping sections");
+        }
+        if (weightsOffset + 8 * m != fileSize) throw new IOException("Truncated graph snapshot: " + file);
+    }
+
+    /** Checks that the CSR row starts run from 0 to m without decreasing, so every row lies inside the edge sections. */
+    private static void checkOffsets(Path file, BufferRegion offsets, int n, long m) throws IOException {
+        long previous = 0;
+        for (int v = 0; v <= n; v++) {
+            long start = offsets.getLong(8L * v);
+            if (start < previous || start > m) throw corrupt(file, "row start " + start + " of vertex " + v);
+            previous = start;
+        }
+        if (previous != m) throw corrupt(file, "rows end at " + previous + ", expected " + m);
+    }
+
+    private static IOException corrupt(Path file, String detail) {
+        return new IOException("Corrupt graph snapshot " + file + ": " + detail);
+    }
+
+    private static List<String> readNames(Path file, FileChannel channel, long namesOffset, long namesEnd, int n)
+            throws IOException {
+        BufferRegion index = BufferRegion.map(channel, FileChannel.MapMode.READ_ONLY, namesOffset, 4L * (n + 1));
+        int blobSize = index.getInt(4L * n);
+        long blobOffset = namesOffset + 4L * (n + 1);
+        if (blobSize < 0 || blobOffset + blobSize > namesEnd) throw corrupt(file, "name blob of " + blobSize + " bytes");
+        BufferRegion blob = BufferRegion.map(channel, FileChannel.MapMode.READ_ONLY, blobOffset, blobSize);
+
+        List<String> vertices = new ArrayList<>(n);
+        byte[] scratch = new byte[64];
+        for (int v = 0; v < n; v++) {
+            int from = index.getInt(4L * v);
+            int length = index.getInt(4L * (v + 1)) - from;
+            if (from < 0 || length < 0 || from + length > blobSize) throw corrupt(file, "name of vertex " + v);
+            if (scratch.length < length) scratch = new byte[length];
+            for (int i = 0; i < length; i++) scratch[i] = blob.getByte(from + i);
+            boolean removed = length == 1 && scratch[0] == REMOVED_NAME[0];
+            vertices.add(removed ? null : new String(scratch, 0, length, StandardCharsets.UTF_8));
+        }
+        return vertices;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    /** Buffered little-endian writer that tracks its file position and a running CRC32C. */
+    private static final class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private long position;
+
+        SectionWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            for (int from = 0; from < bytes.length; ) {
+                ensure(1);
+                int length = Math.min(bytes.length - from, buffer.remaining());
+                buffer.put(bytes, from, length);
+                from += length;
+            }
+        }
+
+        void padTo(long offset) throws IOException {
+            while (position + buffer.position() < offset) {
+                ensure(1);
+                buffer.put((byte) 0);
+            }
+        }
+
+        long checksum() {
+            return crc.getValue();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+}
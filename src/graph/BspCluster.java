@@ -0,0 +1,208 @@
+package graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@link VertexProgram} on child JVMs, one partition per process.
+ *
+ * The graph reaches the workers as a temporary {@link BinarySnapshot}, which each maps
+ * rather than receiving edges over the wire. This process coordinates over loopback
+ * sockets: it starts each superstep, collects every worker's encoded batches, relays each
+ * batch to its destination and sums the active counts to decide whether to continue.
+ * Relaying through the coordinator keeps the workers' connections to one each and makes
+ * it the barrier. The protocol is described in {@link BspWorker}.
+ */
+final class BspCluster {
+    // How long to wait for all workers to start and connect
+    private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+    private static final long EXIT_TIMEOUT_MILLIS = 5_000;
+
+    private final Graph graph;
+
+    BspCluster(Graph graph) {
+        this.graph = graph;
+    }
+
+    BspResult run(VertexProgram program, int processes, int maxSupersteps) throws IOException {
+        AdjacencyStore adj = graph.store();
+        int[] bounds = BspPartition.split(adj, processes);
+        byte[] programBytes = serialize(program);
+        Path snapshot = Files.createTempFile("graph-bsp", ".snapshot");
+        List<Process> children = new ArrayList<>();
+        Connection[] workers = new Connection[processes];
+        try (ServerSocket server = new ServerSocket(0, processes, InetAddress.getLoopbackAddress())) {
+            BinarySnapshot.write(graph, snapshot);
+            server.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            for (int p = 0; p < processes; p++) {
+                children.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        BspWorker.class.getName(), Integer.toString(server.getLocalPort()), Integer.toString(p))
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start());
+            }
+            for (int p = 0; p < processes; p++) {
+                Connection worker = new Connection(server.accept());
+                int index;
+                try {
+                    index = worker.in.readInt();
+                    if (index < 0 || index >= processes) {
+                        throw new IOException("BSP worker sent invalid partition index " + index);
+                    }
+                    if (workers[index] != null) {
+                        throw new IOException("BSP worker sent duplicate partition index " + index);
+                    }
+                } catch (IOException e) {
+                    worker.close();
+                    throw e;
+                }
+                workers[index] = worker;
+            }
+            for (Connection worker : workers) {
+                worker.out.writeUTF(snapshot.toAbsolutePath().toString());
+                worker.out.writeInt(bounds.length);
+                for (int bound : bounds) worker.out.writeInt(bound);
+                worker.out.writeInt(programBytes.length);
+                worker.out.write(programBytes);
+                worker.out.flush();
+            }
+            return coordinate(workers, bounds, maxSupersteps);
+        } catch (EOFException e) {
+            throw new IOException("A BSP worker process exited early", e);
+        } finally {
+            for (Connection worker : workers) {
+                if (worker != null) worker.close();
+            }
+            awaitExit(children);
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    private static BspResult coordinate(Connection[] workers, int[] bounds, int maxSupersteps) throws IOException {
+        int parts = workers.length;
+        long[] nanos = new long[Math.min(maxSupersteps, 64)];
+        long exchanged = 0;
+        int superstep = 0;
+        boolean converged = false;
+        byte[][][] batches = new byte[parts][parts][];
+
+        while (superstep < maxSupersteps) {
+            long start = System.nanoTime();
+            for (Connection worker : workers) {
+                worker.out.writeInt(superstep);
+                worker.out.flush();
+            }
+            for (int p = 0; p < parts; p++) {
+                for (int d = 0; d < parts; d++) {
+                    if (d == p) continue;
+                    batches[p][d] = workers[p].readBatch();
+                    exchanged += ByteBuffer.wrap(batches[p][d]).order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+                }
+            }
+            for (int d = 0; d < parts; d++) {
+                for (int p = 0; p < parts; p++) {
+                    if (p == d) continue;
+                    workers[d].writeBatch(batches[p][d]);
+                    batches[p][d] = null;
+                }
+                workers[d].out.flush();
+            }
+            long active = 0;
+            for (Connection worker : workers) active += worker.in.readInt();
+            if (superstep == nanos.length) nanos = Arrays.copyOf(nanos, superstep << 1);
+            nanos[superstep++] = System.nanoTime() - start;
+
+            if (active == 0) {
+                converged = true;
+                break;
+            }
+        }
+
+        for (Connection worker : workers) {
+            worker.out.writeInt(-1);
+            worker.out.flush();
+        }
+        double[] values = new double[bounds[parts]];
+        long sent = 0;
+        for (int p = 0; p < parts; p++) {
+            ByteBuffer in = ByteBuffer.wrap(workers[p].readBatch()).order(ByteOrder.LITTLE_ENDIAN);
+            for (int v = bounds[p]; v < bounds[p + 1]; v++) values[v] = in.getDouble();
+            sent += workers[p].in.readLong();
+        }
+        return new BspResult(values, parts, Arrays.copyOf(nanos, superstep), sent, exchanged, converged);
+    }
+
+    private static byte[] serialize(VertexProgram program) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(program);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void awaitExit(List<Process> children) {
+        boolean interrupted = false;
+        for (Process child : children) {
+            try {
+                if (!child.waitFor(EXIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) child.destroyForcibly();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                child.destroyForcibly();
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /** One end of a coordinator-worker socket, with buffered data streams. */
+    static final class Connection implements AutoCloseable {
+        private final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+        }
+
+        /** Reads a length-prefixed byte array. */
+        byte[] readBatch() throws IOException {
+            byte[] batch = new byte[in.readInt()];
+            in.readFully(batch);
+            return batch;
+        }
+
+        void writeBatch(byte[] batch) throws IOException {
+            out.writeInt(batch.length);
+            out.write(batch);
+        }
+
+        @Override
+        public void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Nothing left to do with a connection that failed to close
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a {@link VertexProgram} on worker threads in one JVM.
+ *
+ * Each superstep has two phases separated by a join: every partition computes its vertices,
+ * buffering combined messages for the others, then every partition pulls the batches
+ * addressed to it into its next inbox. Within a phase each partition's arrays are written by
+ * exactly one task, though not necessarily the same thread from one superstep to the next;
+ * the join between phases orders those writes before the next phase reads them, so the
+ * phases need no locking.
+ */
+final class BspEngine {
+    private final AdjacencyStore adj;
+
+    BspEngine(AdjacencyStore adj) {
+        this.adj = adj;
+    }
+
+    BspResult run(VertexProgram program, int workers, int maxSupersteps) {
+        int[] bounds = BspPartition.split(adj, workers);
+        BspPartition[] parts = new BspPartition[workers];
+        long[] nanos = new long[Math.min(maxSupersteps, 64)];
+        int[] active = new int[workers];
+        long exchanged = 0;
+        int superstep = 0;
+        boolean converged = false;
+
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            pool.submit(() -> IntStream.range(0, workers).parallel()
+                    .forEach(p -> parts[p] = new BspPartition(adj, program, bounds, p))).join();
+
+            while (superstep < maxSupersteps) {
+                long start = System.nanoTime();
+                int step = superstep;
+                pool.submit(() -> IntStream.range(0, workers).parallel()
+                        .forEach(p -> parts[p].compute(step))).join();
+                for (BspPartition part : parts) {
+                    for (MessageBuffer batch : part.outboxes) {
+                        if (batch != null) exchanged += batch.size();
+                    }
+                }
+                pool.submit(() -> IntStream.range(0, workers).parallel().forEach(p -> {
+                    for (BspPartition sender : parts) {
+                        if (sender != parts[p]) parts[p].deliver(sender.outboxes[p]);
+                    }
+                    active[p] = parts[p].endSuperstep();
+                })).join();
+                if (superstep == nanos.length) nanos = Arrays.copyOf(nanos, superstep << 1);
+                nanos[superstep++] = System.nanoTime() - start;
+
+                if (Arrays.stream(active).sum() == 0) {
+                    converged = true;
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double[] values = new double[adj.numVertices()];
+        long sent = 0;
+        for (BspPartition part : parts) {
+            System.arraycopy(part.values, 0, values, part.from, part.values.length);
+            sent += part.sent;
+        }
+        return new BspResult(values, workers, Arrays.copyOf(nanos, superstep), sent, exchanged, converged);
+    }
+}
@@ -0,0 +1,162 @@
+package graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * One worker's share of a bulk-synchronous run: a contiguous range of vertex indices with
+ * their values, halt flags and double-buffered inboxes.
+ *
+ * Messages to the partition's own vertices are combined straight into the next inbox;
+ * messages to other partitions are combined into one {@link MessageBuffer} per destination
+ * and handed over between supersteps, by reference within a JVM or encoded between processes.
+ */
+final class BspPartition {
+    private final AdjacencyStore adj;
+    private final VertexProgram program;
+    private final VertexProgram.Combiner combiner;
+    private final int[] bounds;
+    final int from;
+    final int to;
+
+    final double[] values;
+    private final boolean[] halted;
+    private double[] inbox;
+    private boolean[] hasInbox;
+    private double[] next;
+    private boolean[] hasNext;
+    // One per destination partition; null for this one
+    final MessageBuffer[] outboxes;
+    private final VertexContext context;
+    long sent;
+
+    /**
+     * @param bounds Partition boundaries from {@link #split}; partition i owns [bounds[i], bounds[i + 1])
+     */
+    BspPartition(AdjacencyStore adj, VertexProgram program, int[] bounds, int index) {
+        this.adj = adj;
+        this.program = program;
+        this.combiner = program.combiner();
+        this.bounds = bounds;
+        this.from = bounds[index];
+        this.to = bounds[index + 1];
+        int size = to - from;
+        this.values = new double[size];
+        this.halted = new boolean[size];
+        this.inbox = new double[size];
+        this.hasInbox = new boolean[size];
+        this.next = new double[size];
+        this.hasNext = new boolean[size];
+        this.outboxes = new MessageBuffer[bounds.length - 1];
+        for (int p = 0; p < outboxes.length; p++) {
+            if (p != index) outboxes[p] = new MessageBuffer(combiner);
+        }
+        int n = adj.numVertices();
+        for (int v = from; v < to; v++) values[v - from] = program.initialValue(v, n);
+        this.context = new VertexContext(this, adj);
+    }
+
+    /**
+     * Splits the vertices into contiguous ranges of roughly equal vertices plus edges,
+     * so a few high-degree vertices do not leave one worker with most of the work.
+     */
+    static int[] split(AdjacencyStore adj, int parts) {
+        int n = adj.numVertices();
+        long total = n + adj.numEdges();
+        int[] bounds = new int[parts + 1];
+        int v = 0;
+        for (int p = 1; p < parts; p++) {
+            long goal = total * p / parts;
+            while (v < n && v + adj.edgeStart(v) < goal) v++;
+            bounds[p] = v;
+        }
+        bounds[parts] = n;
+        return bounds;
+    }
+
+    /** Calls compute for every active vertex or vertex with a message. */
+    void compute(int superstep) {
+        context.superstep = superstep;
+        for (int i = 0; i < values.length; i++) {
+            if (hasInbox[i]) {
+                halted[i] = false;
+            } else if (halted[i]) {
+                continue;
+            }
+            context.vertex = from + i;
+            context.halt = false;
+            program.compute(context);
+            halted[i] = context.halt;
+        }
+    }
+
+    boolean hasMessage(int vertex) {
+        return hasInbox[vertex - from];
+    }
+
+    double message(int vertex) {
+        return inbox[vertex - from];
+    }
+
+    void send(int target, double message) {
+        sent++;
+        if (target >= from && target < to) {
+            combineNext(target - from, message);
+        } else {
+            outboxes[owner(target)].add(target, message);
+        }
+    }
+
+    private int owner(int vertex) {
+        int p = Arrays.binarySearch(bounds, vertex);
+        if (p < 0) return -p - 2;
+        // Skip empty partitions that share the boundary
+        while (bounds[p + 1] == vertex) p++;
+        return p;
+    }
+
+    private void combineNext(int i, double message) {
+        if (hasNext[i]) {
+            next[i] = combiner.combine(next[i], message);
+        } else {
+            next[i] = message;
+            hasNext[i] = true;
+        }
+    }
+
+    /** Merges another partition's batch for this one into the next inbox, then clears it. */
+    void deliver(MessageBuffer batch) {
+        for (int k = 0; k < batch.size(); k++) combineNext(batch.target(k) - from, batch.value(k));
+        batch.clear();
+    }
+
+    /** Merges a batch produced by {@link MessageBuffer#encode()}. */
+    void deliver(byte[] encoded) {
+        ByteBuffer in = ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN);
+        for (int k = in.getInt(); k > 0; k--) {
+            int target = in.getInt();
+            combineNext(target - from, in.getDouble());
+        }
+    }
+
+    /**
+     * Makes the next inbox current once every batch is delivered.
+     * @return Vertices that will run in the next superstep
+     */
+    int endSuperstep() {
+        double[] swap = inbox;
+        inbox = next;
+        next = swap;
+        boolean[] flags = hasInbox;
+        hasInbox = hasNext;
+        hasNext = flags;
+        Arrays.fill(hasNext, false);
+
+        int active = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!halted[i] || hasInbox[i]) active++;
+        }
+        return active;
+    }
+}
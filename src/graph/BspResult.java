@@ -0,0 +1,76 @@
+package graph;
+
+/**
+ * Outcome of a bulk-synchronous vertex program run: the final vertex values plus
+ * per-superstep timings and message counts, so runs with different worker counts can be compared.
+ */
+public class BspResult {
+    private final double[] values;
+    private final int workers;
+    private final long[] superstepNanos;
+    private final long messagesSent;
+    private final long messagesExchanged;
+    private final boolean converged;
+
+    BspResult(double[] values, int workers, long[] superstepNanos,
+              long messagesSent, long messagesExchanged, boolean converged) {
+        this.values = values;
+        this.workers = workers;
+        this.superstepNanos = superstepNanos;
+        this.messagesSent = messagesSent;
+        this.messagesExchanged = messagesExchanged;
+        this.converged = converged;
+    }
+
+    /** Final value of every vertex, indexed by vertex. */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    public double getValue(int vertex) {
+        return values[vertex];
+    }
+
+    /** Number of worker threads or processes the vertices were partitioned across. */
+    public int getWorkerCount() {
+        return workers;
+    }
+
+    public int getSuperstepCount() {
+        return superstepNanos.length;
+    }
+
+    /** Wall-clock time of each superstep, including the message exchange after it. */
+    public long[] getSuperstepNanos() {
+        return superstepNanos.clone();
+    }
+
+    /** Wall-clock time of all supersteps; excludes partitioning and worker start-up. */
+    public long getElapsedNanos() {
+        long total = 0;
+        for (long nanos : superstepNanos) total += nanos;
+        return total;
+    }
+
+    /** Messages sent by compute calls, before combining. */
+    public long getMessagesSent() {
+        return messagesSent;
+    }
+
+    /** Combined messages that crossed from one partition to another. */
+    public long getMessagesExchanged() {
+        return messagesExchanged;
+    }
+
+    /** True if every vertex halted with no messages in flight; false if the superstep limit ended the run. */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return "BspResult(workers=" + workers + ", supersteps=" + superstepNanos.length
+                + ", sent=" + messagesSent + ", exchanged=" + messagesExchanged
+                + ", millis=" + getElapsedNanos() / 1_000_000 + ", converged=" + converged + ")";
+    }
+}
@@ -0,0 +1,71 @@
+package graph;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+/**
+ * Entry point of a worker process started by {@link BspCluster}. Arguments are the
+ * coordinator's loopback port and this worker's partition index.
+ *
+ * Protocol (DataOutputStream encoding, batches are length-prefixed byte arrays):
+ * <pre>
+ *   worker -> coordinator  partition index
+ *   coordinator -> worker  snapshot path, bounds, serialized program
+ *   per superstep:
+ *     coordinator -> worker  superstep number, or -1 to finish
+ *     worker -> coordinator  one {@link MessageBuffer#encode()} batch per other partition, ascending
+ *     coordinator -> worker  the batches other partitions addressed to this one
+ *     worker -> coordinator  number of vertices active in the next superstep
+ *   worker -> coordinator    final values of the partition as doubles, messages sent
+ * </pre>
+ */
+final class BspWorker {
+
+    private BspWorker() {
+    }
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        int port = Integer.parseInt(args[0]);
+        int index = Integer.parseInt(args[1]);
+        try (BspCluster.Connection coordinator =
+                     new BspCluster.Connection(new Socket(InetAddress.getLoopbackAddress(), port))) {
+            coordinator.out.writeInt(index);
+            coordinator.out.flush();
+
+            Path snapshot = Path.of(coordinator.in.readUTF());
+            int[] bounds = new int[coordinator.in.readInt()];
+            for (int i = 0; i < bounds.length; i++) bounds[i] = coordinator.in.readInt();
+            VertexProgram program;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(coordinator.readBatch()))) {
+                program = (VertexProgram) in.readObject();
+            }
+
+            Graph graph = BinarySnapshot.open(snapshot);
+            BspPartition partition = new BspPartition(graph.store(), program, bounds, index);
+            for (int superstep; (superstep = coordinator.in.readInt()) >= 0; ) {
+                partition.compute(superstep);
+                for (MessageBuffer batch : partition.outboxes) {
+                    if (batch == null) continue;
+                    coordinator.writeBatch(batch.encode());
+                    batch.clear();
+                }
+                coordinator.out.flush();
+                for (int p = 0; p < partition.outboxes.length - 1; p++) partition.deliver(coordinator.readBatch());
+                coordinator.out.writeInt(partition.endSuperstep());
+                coordinator.out.flush();
+            }
+
+            ByteBuffer values = ByteBuffer.allocate(8 * partition.values.length).order(ByteOrder.LITTLE_ENDIAN);
+            for (double value : partition.values) values.putDouble(value);
+            coordinator.writeBatch(values.array());
+            coordinator.out.writeLong(partition.sent);
+            coordinator.out.flush();
+        }
+    }
+}
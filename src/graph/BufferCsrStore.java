@@ -0,0 +1,236 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * CSR adjacency read directly from buffer memory rather than Java arrays:
+ * long offsets[numVertices + 1], int targets[numEdges] and double weights[numEdges],
+ * each held in its own {@link BufferRegion}. The target and weight regions may be larger
+ * than numEdges requires.
+ */
+final class BufferCsrStore implements AdjacencyStore {
+    private final int numVertices;
+    private final long numEdges;
+    private final BufferRegion offsets;
+    private final BufferRegion targets;
+    private final BufferRegion weights;
+
+    BufferCsrStore(int numVertices, long numEdges, BufferRegion offsets, BufferRegion targets, BufferRegion weights) {
+        this.numVertices = numVertices;
+        this.numEdges = numEdges;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    static BufferCsrStore empty(int numVertices, OffHeapAllocator allocator) {
+        return new BufferCsrStore(numVertices, 0, allocator.allocate(8L * (numVertices + 1)),
+                allocator.allocate(0), allocator.allocate(0));
+    }
+
+    /**
+     * Off-heap counterpart of {@link CsrStore#merge}: rows sorted by target, later weights win.
+     * The pending edges are sorted by source on the heap, then every row is written once, in
+     * order, so the new regions are filled sequentially. Heap use is bounded by the pending
+     * edges plus the largest row. Grows to numVertices rows and drops edges from or to a vertex
+     * in dropped (may be null), as {@link CsrStore#merge(AdjacencyStore, EdgeBuffer, int, BitSet)} does.
+     */
+    static BufferCsrStore merge(AdjacencyStore base, EdgeBuffer pending, int numVertices, BitSet dropped,
+                                OffHeapAllocator allocator) {
+        int n = numVertices;
+        int baseVertices = base.numVertices();
+        long capacity = base.numEdges() + pending.size();
+
+        // (source, insertion position) keys, so each row's pending edges keep their order
+        long[] order = new long[pending.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ((long) pending.source(i) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        BufferRegion offsets = allocator.allocate(8L * (n + 1));
+        BufferRegion targets = allocator.allocate(4L * capacity);
+        BufferRegion weights = allocator.allocate(8L * capacity);
+
+        int[] rowTargets = new int[16];
+        double[] rowWeights = new double[16];
+        long[] keys = new long[16];
+        boolean[] rowRemoved = new boolean[16];
+        long write = 0;
+        int next = 0;
+        for (int v = 0; v < n; v++) {
+            offsets.putLong((long) v << 3, write);
+
+            // Gather the old row followed by the new edges for v
+            int degree = 0;
+            boolean droppedRow = dropped != null && dropped.get(v);
+            long rowSize = v < baseVertices ? base.degree(v) : 0;
+            int pendingEnd = next;
+            while (pendingEnd < order.length && (int) (order[pendingEnd] >>> 32) == v) pendingEnd++;
+            rowSize += pendingEnd - next;
+            if (rowSize > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Vertex " + v + " has too many edges: " + rowSize);
+            }
+            if (rowSize > rowTargets.length) {
+                int grown = (int) Math.max(rowSize, rowTargets.length * 2L);
+                rowTargets = new int[grown];
+                rowWeights = new double[grown];
+                keys = new long[grown];
+                rowRemoved = new boolean[grown];
+            }
+            if (droppedRow) {
+                next = pendingEnd;
+                continue;
+            }
+            if (v < baseVertices) {
+                for (long e = base.edgeStart(v), end = base.edgeEnd(v); e < end; e++) {
+                    int target = base.target(e);
+                    if (dropped != null && dropped.get(target)) continue;
+                    rowRemoved[degree] = false;
+                    rowTargets[degree] = target;
+                    rowWeights[degree++] = base.weight(e);
+                }
+            }
+            boolean sorted = true;
+            for (; next < pendingEnd; next++) {
+                int i = (int) order[next];
+                int target = pending.target(i);
+                if (dropped != null && dropped.get(target)) continue;
+                if (pending.isRemoval(i) || (degree > 0 && target <= rowTargets[degree - 1])) sorted = false;
+                rowRemoved[degree] = pending.isRemoval(i);
+                rowTargets[degree] = target;
+                rowWeights[degree++] = pending.weight(i);
+            }
+
+            if (sorted) {
+                for (int k = 0; k < degree; k++) {
+                    targets.putInt(write << 2, rowTargets[k]);
+                    weights.putDouble(write << 3, rowWeights[k]);
+                    write++;
+                }
+            } else {
+                // Sort (target, position) pairs so duplicates end up adjacent in insertion order
+                for (int k = 0; k < degree; k++) {
+                    keys[k] = ((long) rowTargets[k] << 32) | k;
+                }
+                Arrays.sort(keys, 0, degree);
+                for (int k = 0; k < degree; k++) {
+                    int target = (int) (keys[k] >>> 32);
+                    if (k + 1 < degree && (int) (keys[k + 1] >>> 32) == target) continue;
+                    if (rowRemoved[(int) keys[k]]) continue;
+                    targets.putInt(write << 2, target);
+                    weights.putDouble(write << 3, rowWeights[(int) keys[k]]);
+                    write++;
+                }
+            }
+        }
+        offsets.putLong((long) n << 3, write);
+        return new BufferCsrStore(n, write, offsets, targets, weights);
+    }
+
+    /**
+     * Finishes a store whose rows were filled in place by a bulk build: row v holds its edges
+     * in insertion order at [rowStarts[v], rowStarts[v + 1]) of the regions. Sorts each row by
+     * target, keeps the last weight of duplicate targets and shifts rows down over the gaps
+     * duplicates leave. Rows are read and rewritten in order, and heap use is bounded by the
+     * largest row, so this suits regions far larger than the heap.
+     */
+    static BufferCsrStore compactRows(long[] rowStarts, BufferRegion targets, BufferRegion weights,
+                                      OffHeapAllocator allocator) {
+        int n = rowStarts.length - 1;
+        BufferRegion offsets = allocator.allocate(8L * (n + 1));
+        int[] rowTargets = new int[16];
+        double[] rowWeights = new double[16];
+        long[] keys = new long[16];
+        long write = 0;
+        for (int v = 0; v < n; v++) {
+            offsets.putLong((long) v << 3, write);
+            long rowSize = rowStarts[v + 1] - rowStarts[v];
+            if (rowSize > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Vertex " + v + " has too many edges: " + rowSize);
+            }
+            int degree = (int) rowSize;
+            if (degree > rowTargets.length) {
+                int grown = (int) Math.max(degree, rowTargets.length * 2L);
+                rowTargets = new int[grown];
+                rowWeights = new double[grown];
+                keys = new long[grown];
+            }
+            boolean sorted = true;
+            for (int k = 0; k < degree; k++) {
+                long e = rowStarts[v] + k;
+                rowTargets[k] = targets.getInt(e << 2);
+                rowWeights[k] = weights.getDouble(e << 3);
+                if (k > 0 && rowTargets[k] <= rowTargets[k - 1]) sorted = false;
+            }
+
+            // write never passes the row's start, so rows already read are the only ones overwritten
+            if (sorted) {
+                for (int k = 0; k < degree; k++) {
+                    targets.putInt(write << 2, rowTargets[k]);
+                    weights.putDouble(write << 3, rowWeights[k]);
+                    write++;
+                }
+            } else {
+                for (int k = 0; k < degree; k++) {
+                    keys[k] = ((long) rowTargets[k] << 32) | k;
+                }
+                Arrays.sort(keys, 0, degree);
+                for (int k = 0; k < degree; k++) {
+                    int target = (int) (keys[k] >>> 32);
+                    if (k + 1 < degree && (int) (keys[k + 1] >>> 32) == target) continue;
+                    targets.putInt(write << 2, target);
+                    weights.putDouble(write << 3, rowWeights[(int) keys[k]]);
+                    write++;
+                }
+            }
+        }
+        offsets.putLong((long) n << 3, write);
+        return new BufferCsrStore(n, write, offsets, targets, weights);
+    }
+
+    /**
+     * Off-heap counterpart of {@link CsrStore#transpose}: row v lists the sources of edges into v.
+     */
+    static BufferCsrStore transpose(AdjacencyStore forward, OffHeapAllocator allocator) {
+        int n = forward.numVertices();
+        long m = forward.numEdges();
+        BufferRegion offsets = allocator.allocate(8L * (n + 1));
+        for (int u = 0; u < n; u++) {
+            for (long e = forward.edgeStart(u), end = forward.edgeEnd(u); e < end; e++) {
+                long slot = (long) (forward.target(e) + 1) << 3;
+                offsets.putLong(slot, offsets.getLong(slot) + 1);
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            long slot = (long) (v + 1) << 3;
+            offsets.putLong(slot, offsets.getLong(slot) + offsets.getLong((long) v << 3));
+        }
+
+        // Per-row write cursors, starting at each row's offset
+        BufferRegion fill = allocator.allocate(8L * Math.max(n, 1));
+        for (int v = 0; v < n; v++) {
+            fill.putLong((long) v << 3, offsets.getLong((long) v << 3));
+        }
+        BufferRegion targets = allocator.allocate(4L * m);
+        BufferRegion weights = allocator.allocate(8L * m);
+        for (int u = 0; u < n; u++) {
+            for (long e = forward.edgeStart(u), end = forward.edgeEnd(u); e < end; e++) {
+                long cursor = (long) forward.target(e) << 3;
+                long slot = fill.getLong(cursor);
+                fill.putLong(cursor, slot + 1);
+                targets.putInt(slot << 2, u);
+                weights.putDouble(slot << 3, forward.weight(e));
+            }
+        }
+        return new BufferCsrStore(n, m, offsets, targets, weights);
+    }
+
+    @Override public int numVertices() { return numVertices; }
+    @Override public long numEdges() { return numEdges; }
+    @Override public long edgeStart(int vertex) { return offsets.getLong((long) vertex << 3); }
+    @Override public long edgeEnd(int vertex) { return offsets.getLong((long) (vertex + 1) << 3); }
+    @Override public int target(long edge) { return targets.getInt(edge << 2); }
+    @Override public double weight(long edge) { return weights.getDouble(edge << 3); }
+}
@@ -0,0 +1,116 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A long-addressable run of bytes split across ByteBuffer pages of 1 GB, so regions larger
+ * than a single buffer's 2 GB limit can be read and written with absolute offsets.
+ * Callers keep 4- and 8-byte values aligned to their size so no value straddles two pages.
+ */
+final class BufferRegion {
+    private static final int PAGE_SHIFT = 30;
+    private static final long PAGE_MASK = (1L << PAGE_SHIFT) - 1;
+
+    private final ByteBuffer[] pages;
+    private final long size;
+
+    private BufferRegion(ByteBuffer[] pages, long size) {
+        this.pages = pages;
+        this.size = size;
+    }
+
+    /** Maps [position, position + size) of the channel in little-endian order. */
+    static BufferRegion map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+        ByteBuffer[] pages = new ByteBuffer[pageCount(size)];
+        for (int p = 0; p < pages.length; p++) {
+            long offset = (long) p << PAGE_SHIFT;
+            long length = Math.min(size - offset, 1L << PAGE_SHIFT);
+            pages[p] = channel.map(mode, position + offset, length).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new BufferRegion(pages, size);
+    }
+
+    /** Allocates a zeroed region of direct (off-heap) memory. */
+    static BufferRegion allocate(long size) {
+        ByteBuffer[] pages = new ByteBuffer[pageCount(size)];
+        for (int p = 0; p < pages.length; p++) {
+            long length = Math.min(size - ((long) p << PAGE_SHIFT), 1L << PAGE_SHIFT);
+            pages[p] = ByteBuffer.allocateDirect((int) length).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new BufferRegion(pages, size);
+    }
+
+    /**
+     * Allocates a zeroed region backed by a new temporary file in the directory, so the OS
+     * page cache rather than RAM bounds how much can be held. The file is unlinked once mapped
+     * where the platform allows it, and otherwise removed on exit.
+     */
+    static BufferRegion allocateMapped(Path directory, long size) throws IOException {
+        Path file = Files.createTempFile(directory, "graph-", ".region");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+            if (size > 0) {
+                // Extend the file to its full size without writing every page
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+            return map(channel, FileChannel.MapMode.READ_WRITE, 0, size);
+        } finally {
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    int getInt(long offset) {
+        return pages[(int) (offset >>> PAGE_SHIFT)].getInt((int) (offset & PAGE_MASK));
+    }
+
+    long getLong(long offset) {
+        return pages[(int) (offset >>> PAGE_SHIFT)].getLong((int) (offset & PAGE_MASK));
+    }
+
+    double getDouble(long offset) {
+        return pages[(int) (offset >>> PAGE_SHIFT)].getDouble((int) (offset & PAGE_MASK));
+    }
+
+    byte getByte(long offset) {
+        return pages[(int) (offset >>> PAGE_SHIFT)].get((int) (offset & PAGE_MASK));
+    }
+
+    void putInt(long offset, int value) {
+        pages[(int) (offset >>> PAGE_SHIFT)].putInt((int) (offset & PAGE_MASK), value);
+    }
+
+    void putLong(long offset, long value) {
+        pages[(int) (offset >>> PAGE_SHIFT)].putLong((int) (offset & PAGE_MASK), value);
+    }
+
+    void putDouble(long offset, double value) {
+        pages[(int) (offset >>> PAGE_SHIFT)].putDouble((int) (offset & PAGE_MASK), value);
+    }
+
+    /** Read-only duplicates of the pages, in order, for bulk processing such as checksums. */
+    ByteBuffer[] pages() {
+        ByteBuffer[] copies = new ByteBuffer[pages.length];
+        for (int p = 0; p < pages.length; p++) {
+            copies[p] = pages[p].asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return copies;
+    }
+
+    private static int pageCount(long size) {
+        return (int) Math.max(1, (size + PAGE_MASK) >>> PAGE_SHIFT);
+    }
+}
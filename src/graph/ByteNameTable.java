@@ -0,0 +1,102 @@
+package graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Interns names given as byte slices, assigning ids in first-seen order.
+ * Names are copied once into a shared byte arena and looked up through an
+ * open-addressing table, so resolving a name never creates a String.
+ *
+ * Each table slot packs (hash << 32 | id + 1) so most mismatches are rejected without
+ * touching the arena, and each name's arena position packs (start << 32 | length).
+ */
+final class ByteNameTable {
+    private byte[] arena = new byte[1 << 12];
+    private int arenaSize;
+    private long[] extents = new long[64];
+    private int size;
+
+    // 0 for empty; capacity is a power of two kept at most half full
+    private long[] slots = new long[128];
+
+    int size() {
+        return size;
+    }
+
+    /** Returns the id of the name in buffer[from, to), adding it if new. */
+    int intern(ByteBuffer buffer, int from, int to) {
+        int hash = hash(buffer, from, to);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long entry = slots[slot];
+            if (entry == 0) {
+                int id = add(buffer, from, to);
+                slots[slot] = ((long) hash << 32) | (id + 1);
+                if (size * 2 > slots.length) rehash();
+                return id;
+            }
+            int id = (int) entry - 1;
+            if ((int) (entry >>> 32) == hash && matches(id, buffer, from, to)) return id;
+        }
+    }
+
+    /** Returns the id of another table's name, adding it if new. */
+    int intern(ByteNameTable other, int otherId) {
+        long extent = other.extents[otherId];
+        int from = (int) (extent >>> 32);
+        return intern(ByteBuffer.wrap(other.arena), from, from + (int) extent);
+    }
+
+    String name(int id) {
+        long extent = extents[id];
+        return new String(arena, (int) (extent >>> 32), (int) extent, StandardCharsets.UTF_8);
+    }
+
+    private int add(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length << 1, arenaSize + length));
+        }
+        for (int i = 0; i < length; i++) {
+            arena[arenaSize + i] = buffer.get(from + i);
+        }
+        if (size == extents.length) {
+            extents = Arrays.copyOf(extents, size << 1);
+        }
+        extents[size] = ((long) arenaSize << 32) | length;
+        arenaSize += length;
+        return size++;
+    }
+
+    private boolean matches(int id, ByteBuffer buffer, int from, int to) {
+        long extent = extents[id];
+        if ((int) extent != to - from) return false;
+        int start = (int) (extent >>> 32) - from;
+        for (int i = from; i < to; i++) {
+            if (arena[start + i] != buffer.get(i)) return false;
+        }
+        return true;
+    }
+
+    private void rehash() {
+        long[] grown = new long[slots.length << 1];
+        int mask = grown.length - 1;
+        for (long entry : slots) {
+            if (entry == 0) continue;
+            int slot = (int) (entry >>> 32) & mask;
+            while (grown[slot] != 0) slot = (slot + 1) & mask;
+            grown[slot] = entry;
+        }
+        slots = grown;
+    }
+
+    private static int hash(ByteBuffer buffer, int from, int to) {
+        int h = 0x811C9DC5;
+        for (int i = from; i < to; i++) {
+            h = (h ^ buffer.get(i)) * 0x01000193;
+        }
+        return h ^ (h >>> 15);
+    }
+}
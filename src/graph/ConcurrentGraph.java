@@ -0,0 +1,161 @@
+package graph;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A graph that accepts edges from many writer threads while readers query immutable snapshots.
+ *
+ * Writers append to one of several edge buffers chosen by source vertex, each guarded by its
+ * own lock, so writers on different stripes never contend. Readers call {@link #snapshot()},
+ * a single volatile read that returns a read-only {@link Graph}; every query on it sees one
+ * consistent version and takes no locks. Buffered edges become visible when a new snapshot is
+ * published, either explicitly through {@link #refresh()} or automatically once enough edges
+ * are pending. Views a snapshot derives lazily (edge index, transpose, connectivity, matrix)
+ * are built once under a lock and published safely, so readers may share a snapshot freely.
+ *
+ * Each publish copies the whole CSR store, so the automatic threshold grows with the graph:
+ * it is the larger of publishThreshold and 1 / {@value #PUBLISH_GROWTH_DIVISOR} of the edges
+ * already published. Every copy is then paid for by a proportional number of new edges and
+ * sustained ingest costs O(E) in total rather than O(E^2 / publishThreshold). The price is
+ * staleness: on a large graph, up to that fraction of its edges may wait for the next
+ * publish. Readers that need them sooner call {@link #refresh()}.
+ *
+ * Unlike {@link Graph#addEdge}, a directed graph gets exactly the edges that are added.
+ */
+public class ConcurrentGraph {
+    private static final int DEFAULT_PUBLISH_THRESHOLD = 1 << 16;
+    // Automatic publishes wait for at least published edges / this many new ones
+    private static final int PUBLISH_GROWTH_DIVISOR = 8;
+
+    private final Graph template;
+    private final boolean isDirected;
+    private final EdgeBuffer[] stripes;
+    private final Object[] stripeLocks;
+    private final int stripeMask;
+    private final int publishThreshold;
+
+    private final AtomicLong pendingEdges = new AtomicLong();
+    // Pending edge count that triggers the next automatic publish
+    private volatile long publishAt;
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    private volatile Graph current;
+    private volatile long version;
+
+    public ConcurrentGraph(List<String> vertices, boolean isDirected) {
+        this(vertices, isDirected, DEFAULT_PUBLISH_THRESHOLD);
+    }
+
+    /**
+     * @param publishThreshold Number of pending edges that triggers an automatic publish while
+     *                         the graph is small; larger graphs wait for proportionally more
+     */
+    public ConcurrentGraph(List<String> vertices, boolean isDirected, int publishThreshold) {
+        this.template = new Graph(vertices, isDirected);
+        this.isDirected = isDirected;
+        this.publishThreshold = Math.max(1, publishThreshold);
+        this.publishAt = this.publishThreshold;
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4) - 1) << 1;
+        this.stripes = new EdgeBuffer[stripeCount];
+        this.stripeLocks = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new EdgeBuffer();
+            stripeLocks[i] = new Object();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.current = new Graph(template, CsrStore.empty(template.getNumVertices()));
+    }
+
+    /**
+     * Add an edge. Safe to call from any thread; visible to readers after the next publish.
+     */
+    public void addEdge(String source, String destination, double weight) {
+        int srcIdx = template.getVertexIndex(source);
+        int destIdx = template.getVertexIndex(destination);
+        append(srcIdx, destIdx, weight);
+        if (!isDirected) {
+            append(destIdx, srcIdx, weight);
+        }
+        if (pendingEdges.get() >= publishAt && publishLock.tryLock()) {
+            try {
+                publish();
+            } finally {
+                publishLock.unlock();
+            }
+        }
+    }
+
+    private void append(int source, int target, double weight) {
+        int stripe = source & stripeMask;
+        synchronized (stripeLocks[stripe]) {
+            stripes[stripe].add(source, target, weight);
+        }
+        pendingEdges.incrementAndGet();
+    }
+
+    /**
+     * The latest published snapshot. Lock-free; the returned graph never changes.
+     */
+    public Graph snapshot() {
+        return current;
+    }
+
+    /**
+     * Publish every edge added so far and return the resulting snapshot.
+     */
+    public Graph refresh() {
+        publishLock.lock();
+        try {
+            publish();
+            return current;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /** Number of snapshots published so far. */
+    public long version() {
+        return version;
+    }
+
+    /** Number of edges added but not yet visible to readers. */
+    public long pendingEdgeCount() {
+        return pendingEdges.get();
+    }
+
+    public int getNumVertices() {
+        return template.getNumVertices();
+    }
+
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    /** Drains the stripes and merges them into a new snapshot. Caller holds publishLock. */
+    private void publish() {
+        EdgeBuffer drained = new EdgeBuffer();
+        int drainedCount = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            EdgeBuffer stripe;
+            synchronized (stripeLocks[i]) {
+                stripe = stripes[i];
+                if (stripe.size() == 0) continue;
+                stripes[i] = new EdgeBuffer();
+            }
+            for (int e = 0; e < stripe.size(); e++) {
+                drained.add(stripe.source(e), stripe.target(e), stripe.weight(e));
+            }
+            drainedCount += stripe.size();
+        }
+        if (drainedCount == 0) return;
+
+        pendingEdges.addAndGet(-drainedCount);
+        AdjacencyStore merged = CsrStore.merge(current.store(), drained);
+        current = new Graph(template, merged);
+        publishAt = Math.max(publishThreshold, merged.numEdges() / PUBLISH_GROWTH_DIVISOR);
+        version++;
+    }
+}
@@ -0,0 +1,106 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Union-find over vertex indices with union by rank and path compression, kept in primitive
+ * arrays. Answers connectivity queries in O(alpha(n)) amortized. Edge direction is ignored,
+ * so for directed graphs this tracks weakly connected components.
+ */
+final class ConnectivityIndex {
+    private int[] parent;
+    private byte[] rank;
+    private int[] size;
+    private int numVertices;
+    private int components;
+
+    ConnectivityIndex(int numVertices) {
+        parent = new int[numVertices];
+        rank = new byte[numVertices];
+        size = new int[numVertices];
+        for (int v = 0; v < numVertices; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+        this.numVertices = numVertices;
+        components = numVertices;
+    }
+
+    /** Adds singleton components so indices up to numVertices - 1 are covered. */
+    void grow(int numVertices) {
+        if (numVertices <= this.numVertices) return;
+        if (numVertices > parent.length) {
+            int capacity = Math.max(numVertices, parent.length + (parent.length >> 1));
+            parent = Arrays.copyOf(parent, capacity);
+            rank = Arrays.copyOf(rank, capacity);
+            size = Arrays.copyOf(size, capacity);
+        }
+        for (int v = this.numVertices; v < numVertices; v++) {
+            parent[v] = v;
+            rank[v] = 0;
+            size[v] = 1;
+        }
+        components += numVertices - this.numVertices;
+        this.numVertices = numVertices;
+    }
+
+    /** Builds the index from every edge already in the store. */
+    static ConnectivityIndex build(AdjacencyStore adj) {
+        ConnectivityIndex index = new ConnectivityIndex(adj.numVertices());
+        for (int u = 0; u < adj.numVertices(); u++) {
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                index.union(u, adj.target(e));
+            }
+        }
+        return index;
+    }
+
+    /** Representative of the vertex's component. Compresses the path it walks. */
+    int find(int v) {
+        int root = v;
+        while (parent[root] != root) root = parent[root];
+        while (parent[v] != root) {
+            int next = parent[v];
+            parent[v] = root;
+            v = next;
+        }
+        return root;
+    }
+
+    /**
+     * Points every vertex straight at its root. Afterwards find never writes, so a flattened
+     * index that receives no further unions can be queried from many threads at once.
+     */
+    void flatten() {
+        for (int v = 0; v < numVertices; v++) parent[v] = find(v);
+    }
+
+    /** Merges the components of a and b, returning false if they were already joined. */
+    boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return false;
+        if (rank[rootA] < rank[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        if (rank[rootA] == rank[rootB]) rank[rootA]++;
+        components--;
+        return true;
+    }
+
+    boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    int componentSize(int v) {
+        return size[find(v)];
+    }
+
+    int componentCount() {
+        return components;
+    }
+}
@@ -0,0 +1,195 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Compressed sparse row adjacency: the neighbors of vertex v are
+ * targets[offsets[v] .. offsets[v + 1]) with matching weights.
+ */
+final class CsrStore implements AdjacencyStore {
+    final int[] offsets;
+    final int[] targets;
+    final double[] weights;
+
+    CsrStore(int[] offsets, int[] targets, double[] weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    static CsrStore empty(int numVertices) {
+        return new CsrStore(new int[numVertices + 1], new int[0], new double[0]);
+    }
+
+    /**
+     * Builds a new store holding the edges of base plus the pending edges.
+     * Rows are sorted by target; when the same (source, target) pair appears
+     * more than once the most recently added weight wins.
+     */
+    static CsrStore merge(AdjacencyStore base, EdgeBuffer pending) {
+        return merge(base, pending, base.numVertices(), null);
+    }
+
+    /**
+     * Like {@link #merge(AdjacencyStore, EdgeBuffer)}, additionally growing the store to
+     * numVertices rows and dropping every edge from or to a vertex in dropped (may be null).
+     * A pending removal entry deletes its pair if it is the pair's latest entry.
+     */
+    static CsrStore merge(AdjacencyStore base, EdgeBuffer pending, int numVertices, BitSet dropped) {
+        int n = numVertices;
+        int baseVertices = base.numVertices();
+        long total = base.numEdges() + pending.size();
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many edges for an on-heap CSR store: " + total);
+        }
+
+        // Row sizes before de-duplication, then prefix sums
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < baseVertices; v++) {
+            if (dropped == null || !dropped.get(v)) offsets[v + 1] = base.degree(v);
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            offsets[pending.source(i) + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // Removal entries keep their inverted target so sortRows can recognize them
+        int[] targets = new int[(int) total];
+        double[] weights = new double[(int) total];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int v = 0; v < baseVertices; v++) {
+            if (dropped != null && dropped.get(v)) continue;
+            for (long e = base.edgeStart(v), end = base.edgeEnd(v); e < end; e++) {
+                int target = base.target(e);
+                if (dropped != null && dropped.get(target)) continue;
+                targets[fill[v]] = target;
+                weights[fill[v]++] = base.weight(e);
+            }
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            int v = pending.source(i);
+            if (dropped != null && (dropped.get(v) || dropped.get(pending.target(i)))) continue;
+            targets[fill[v]] = pending.isRemoval(i) ? ~pending.target(i) : pending.target(i);
+            weights[fill[v]++] = pending.weight(i);
+        }
+        if (dropped != null) {
+            // Rows may have come up short; close the gaps before sorting
+            int write = 0;
+            for (int v = 0; v < n; v++) {
+                int from = offsets[v];
+                int length = fill[v] - from;
+                System.arraycopy(targets, from, targets, write, length);
+                System.arraycopy(weights, from, weights, write, length);
+                offsets[v] = write;
+                write += length;
+            }
+            offsets[n] = write;
+        }
+
+        int size = sortRows(offsets, targets, weights);
+        if (size < targets.length) {
+            targets = Arrays.copyOf(targets, size);
+            weights = Arrays.copyOf(weights, size);
+        }
+        return new CsrStore(offsets, targets, weights);
+    }
+
+    /**
+     * Builds the reverse graph: row v lists the sources of edges into v.
+     * Sources are visited in ascending order, so rows come out already sorted.
+     */
+    static CsrStore transpose(AdjacencyStore forward) {
+        int n = forward.numVertices();
+        long m = forward.numEdges();
+        if (m > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many edges for an on-heap CSR store: " + m);
+        }
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            for (long e = forward.edgeStart(u), end = forward.edgeEnd(u); e < end; e++) {
+                offsets[forward.target(e) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[(int) m];
+        double[] weights = new double[(int) m];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int u = 0; u < n; u++) {
+            for (long e = forward.edgeStart(u), end = forward.edgeEnd(u); e < end; e++) {
+                int slot = fill[forward.target(e)]++;
+                targets[slot] = u;
+                weights[slot] = forward.weight(e);
+            }
+        }
+        return new CsrStore(offsets, targets, weights);
+    }
+
+    /**
+     * Sorts every row by target and drops duplicates (keeping the later entry), compacting
+     * rows towards the front of the arrays. A kept entry with an inverted (negative) target is
+     * a removal and is dropped too. Rewrites offsets and returns the new edge count.
+     */
+    private static int sortRows(int[] offsets, int[] targets, double[] weights) {
+        int n = offsets.length - 1;
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            maxDegree = Math.max(maxDegree, offsets[v + 1] - offsets[v]);
+        }
+        long[] keys = new long[maxDegree];
+        double[] rowWeights = new double[maxDegree];
+        boolean[] rowRemoved = new boolean[maxDegree];
+
+        int write = 0;
+        int from = offsets[0];
+        for (int v = 0; v < n; v++) {
+            int to = offsets[v + 1];
+            int degree = to - from;
+            offsets[v] = write;
+
+            if (isStrictlyAscending(targets, from, to)) {
+                System.arraycopy(targets, from, targets, write, degree);
+                System.arraycopy(weights, from, weights, write, degree);
+                write += degree;
+            } else {
+                // Sort (target, position) pairs so duplicates end up adjacent in insertion order
+                for (int k = 0; k < degree; k++) {
+                    int target = targets[from + k];
+                    rowRemoved[k] = target < 0;
+                    keys[k] = ((long) (target < 0 ? ~target : target) << 32) | k;
+                    rowWeights[k] = weights[from + k];
+                }
+                Arrays.sort(keys, 0, degree);
+                for (int k = 0; k < degree; k++) {
+                    int target = (int) (keys[k] >>> 32);
+                    if (k + 1 < degree && (int) (keys[k + 1] >>> 32) == target) continue;
+                    if (rowRemoved[(int) keys[k]]) continue;
+                    targets[write] = target;
+                    weights[write++] = rowWeights[(int) keys[k]];
+                }
+            }
+            from = to;
+        }
+        offsets[n] = write;
+        return write;
+    }
+
+    private static boolean isStrictlyAscending(int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (values[i] < 0 || (i > from && values[i] <= values[i - 1])) return false;
+        }
+        return true;
+    }
+
+    @Override public int numVertices() { return offsets.length - 1; }
+    @Override public long numEdges() { return offsets[offsets.length - 1]; }
+    @Override public long edgeStart(int vertex) { return offsets[vertex]; }
+    @Override public long edgeEnd(int vertex) { return offsets[vertex + 1]; }
+    @Override public int target(long edge) { return targets[(int) edge]; }
+    @Override public double weight(long edge) { return weights[(int) edge]; }
+    @Override public int degree(int vertex) { return offsets[vertex + 1] - offsets[vertex]; }
+}
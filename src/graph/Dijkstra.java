@@ -0,0 +1,49 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra's algorithm over an adjacency store using an {@link IndexedDHeap}.
+ */
+final class Dijkstra {
+
+    private Dijkstra() {
+    }
+
+    /**
+     * Computes shortest paths from source. If target is not -1 the search stops as soon as
+     * the target is settled, leaving other distances as upper bounds.
+     * @throws IllegalStateException if a negative edge weight is encountered
+     */
+    static ShortestPaths run(AdjacencyStore adj, int source, int target, IndexedDHeap heap) {
+        int n = adj.numVertices();
+        double[] dist = new double[n];
+        int[] pred = new int[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+
+        heap.clear();
+        dist[source] = 0.0;
+        heap.insertOrDecrease(source, 0.0);
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            if (u == target) break;
+            double du = dist[u];
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                double w = adj.weight(e);
+                if (w < 0) {
+                    throw new IllegalStateException("Dijkstra requires non-negative weights, found " + w);
+                }
+                int v = adj.target(e);
+                double candidate = du + w;
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    pred[v] = u;
+                    heap.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+        heap.clear();
+        return new ShortestPaths(source, dist, pred);
+    }
+}
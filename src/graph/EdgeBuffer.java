@@ -0,0 +1,65 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Append-only buffer of edges held in parallel primitive arrays.
+ * Used to collect edges while a graph is loading, before they are compacted into a {@link CsrStore}.
+ * An entry may also record the removal of an edge; its target is stored bit-inverted, and the
+ * merge drops the edge if the removal is the pair's latest entry.
+ */
+final class EdgeBuffer {
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+    private int size;
+
+    EdgeBuffer() {
+        this(16);
+    }
+
+    EdgeBuffer(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        sources = new int[capacity];
+        targets = new int[capacity];
+        weights = new double[capacity];
+    }
+
+    /** Adopts existing arrays holding size edges, without copying. */
+    static EdgeBuffer wrap(int[] sources, int[] targets, double[] weights, int size) {
+        EdgeBuffer buffer = new EdgeBuffer(0);
+        buffer.sources = sources;
+        buffer.targets = targets;
+        buffer.weights = weights;
+        buffer.size = size;
+        return buffer;
+    }
+
+    void add(int source, int target, double weight) {
+        if (size == sources.length) {
+            int capacity = size + (size >> 1) + 1;
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        sources[size] = source;
+        targets[size] = target;
+        weights[size] = weight;
+        size++;
+    }
+
+    /** Records that the edge source -> target is removed. */
+    void remove(int source, int target) {
+        add(source, ~target, 0);
+    }
+
+    int size() { return size; }
+    int source(int i) { return sources[i]; }
+    int target(int i) { int t = targets[i]; return t >= 0 ? t : ~t; }
+    boolean isRemoval(int i) { return targets[i] < 0; }
+    double weight(int i) { return weights[i]; }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,130 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Hash index from (source, target) to weight over every current edge, so a graph under
+ * live updates can find, re-weight or remove a pair in O(1) instead of searching its row.
+ *
+ * Open addressing over primitive arrays: keys pack (source << 32 | target) with -1 marking
+ * an empty slot, probing is linear, deletion shifts later entries back instead of leaving
+ * tombstones, and the table is kept at most half full.
+ */
+final class EdgeIndex {
+    private static final long EMPTY = -1L;
+    // Largest power-of-two table a Java array allows; at half full it holds 2^29 edges
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private double[] weights;
+    private int size;
+
+    EdgeIndex(long expectedEdges) {
+        int capacity = Integer.highestOneBit((int) Math.min(Math.max(expectedEdges * 2, 8), MAX_CAPACITY / 2) - 1) << 1;
+        keys = new long[capacity];
+        weights = new double[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /** Index over every edge in the store. */
+    static EdgeIndex build(AdjacencyStore adj) {
+        EdgeIndex index = new EdgeIndex(adj.numEdges());
+        for (int u = 0; u < adj.numVertices(); u++) {
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                index.put(u, adj.target(e), adj.weight(e));
+            }
+        }
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int source, int target) {
+        return find(key(source, target)) >= 0;
+    }
+
+    /** Weight of the edge, or Double.POSITIVE_INFINITY if there is none. */
+    double weight(int source, int target) {
+        int slot = find(key(source, target));
+        return slot >= 0 ? weights[slot] : Double.POSITIVE_INFINITY;
+    }
+
+    /** Inserts or re-weights the edge, returning true if it was new. */
+    boolean put(int source, int target, double weight) {
+        long key = key(source, target);
+        int mask = keys.length - 1;
+        int slot = slotFor(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                weights[slot] = weight;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // Checked before inserting so a failed put leaves the index unchanged
+        if (size == MAX_CAPACITY / 2) {
+            throw new IllegalStateException("Graph has too many edges for the edge index: " + size);
+        }
+        keys[slot] = key;
+        weights[slot] = weight;
+        if (++size * 2 > keys.length) rehash();
+        return true;
+    }
+
+    /** Removes the edge, returning false if it was not present. */
+    boolean remove(int source, int target) {
+        int slot = find(key(source, target));
+        if (slot < 0) return false;
+        int mask = keys.length - 1;
+
+        // Backward-shift deletion: pull later entries of the probe run into the hole
+        int hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slotFor(keys[next], mask);
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                weights[hole] = weights[next];
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slotFor(key, mask); keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return slot;
+        }
+        return -1;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        double[] oldWeights = weights;
+        keys = new long[oldKeys.length << 1];
+        weights = new double[keys.length];
+        Arrays.fill(keys, EMPTY);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = slotFor(oldKeys[i], mask);
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            weights[slot] = oldWeights[i];
+        }
+    }
+
+    private static long key(int source, int target) {
+        return ((long) source << 32) | (target & 0xFFFFFFFFL);
+    }
+
+    private static int slotFor(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,421 @@
+package graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk loader for text edge lists with one "source destination [weight]" edge per line.
+ *
+ * The file is memory-mapped and split at line boundaries into chunks that are parsed in
+ * parallel straight from the mapped bytes. Each chunk interns vertex names into its own
+ * {@link ByteNameTable}; the tables are then merged in file order, so vertex indices follow
+ * the order in which names first appear. Fields are separated by spaces, tabs or commas,
+ * the weight defaults to 1, and blank lines or lines starting with '#' or '%' are skipped.
+ * Weights must be plain decimal numbers, optionally with an exponent, and nothing may
+ * follow the weight on its line; a malformed line fails the load with its byte offset.
+ *
+ * Unlike {@link Graph#addEdge}, a directed graph gets exactly the edges in the file.
+ *
+ * {@link #loadOffHeap} builds an off-heap graph without holding the edges on the heap: a
+ * first parallel pass interns the names and counts every row, a second parallel pass writes
+ * each edge straight into its row of the off-heap regions, and each row is then sorted and
+ * de-duplicated in place. Heap use is bounded by the vertex names, a long per vertex and a
+ * long per name occurrence in each chunk; it does not grow with the edges.
+ */
+public final class EdgeListLoader {
+    private static final int CHUNK_SIZE = 32 << 20;
+
+    private EdgeListLoader() {
+    }
+
+    public static Graph load(Path file, boolean directed) throws IOException {
+        return load(file, directed, ForkJoinPool.commonPool());
+    }
+
+    public static Graph load(Path file, boolean directed, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            Chunk[] chunks = new Chunk[bounds.length - 1];
+            try {
+                pool.submit(() -> IntStream.range(0, chunks.length).parallel().forEach(c -> {
+                    try {
+                        Chunk chunk = new Chunk();
+                        parse(channel, bounds[c], bounds[c + 1], chunk.names, chunk.edges::add);
+                        chunks[c] = chunk;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })).join();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return build(chunks, directed, pool);
+        }
+    }
+
+    /**
+     * Loads the file into an off-heap graph, as {@link Graph#offHeap(List, boolean)} stores it.
+     * When an edge appears more than once, the last line wins.
+     */
+    public static Graph loadOffHeap(Path file, boolean directed) throws IOException {
+        return loadOffHeap(file, directed, new OffHeapAllocator(null), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads the file into an off-heap graph backed by temporary mapped files in the directory,
+     * as {@link Graph#offHeap(List, boolean, Path)} stores it.
+     */
+    public static Graph loadOffHeap(Path file, boolean directed, Path directory) throws IOException {
+        return loadOffHeap(file, directed, new OffHeapAllocator(directory), ForkJoinPool.commonPool());
+    }
+
+    private static Graph loadOffHeap(Path file, boolean directed, OffHeapAllocator allocator, ForkJoinPool pool)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            int chunkCount = bounds.length - 1;
+
+            // Pass 1: intern names and count each vertex's row, chunks in parallel
+            ByteNameTable[] tables = new ByteNameTable[chunkCount];
+            RowCounts[] counts = new RowCounts[chunkCount];
+            try {
+                pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(c -> {
+                    ByteNameTable names = new ByteNameTable();
+                    RowCounts rows = new RowCounts();
+                    try {
+                        parse(channel, bounds[c], bounds[c + 1], names, (source, destination, weight) -> {
+                            rows.add(source);
+                            if (!directed) rows.add(destination);
+                        });
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    tables[c] = names;
+                    counts[c] = rows;
+                })).join();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            ByteNameTable names = new ByteNameTable();
+            int[][] remap = new int[chunkCount][];
+            for (int c = 0; c < chunkCount; c++) {
+                remap[c] = new int[tables[c].size()];
+                for (int id = 0; id < tables[c].size(); id++) {
+                    remap[c][id] = names.intern(tables[c], id);
+                }
+            }
+            int n = names.size();
+            long[] rowStarts = new long[n + 1];
+            for (int c = 0; c < chunkCount; c++) {
+                for (int id = 0; id < remap[c].length; id++) {
+                    rowStarts[remap[c][id] + 1] += counts[c].get(id);
+                }
+            }
+            for (int v = 0; v < n; v++) rowStarts[v + 1] += rowStarts[v];
+
+            // Each chunk writes its share of a row after the shares of earlier chunks, so rows
+            // keep file order and later lines win even though chunks are written in parallel
+            long[] next = Arrays.copyOf(rowStarts, n);
+            long[][] cursors = new long[chunkCount][];
+            for (int c = 0; c < chunkCount; c++) {
+                cursors[c] = new long[remap[c].length];
+                for (int id = 0; id < remap[c].length; id++) {
+                    int v = remap[c][id];
+                    cursors[c][id] = next[v];
+                    next[v] += counts[c].get(id);
+                }
+                counts[c] = null;
+            }
+
+            // Pass 2: write every edge at its chunk's cursor in its row
+            long total = rowStarts[n];
+            BufferRegion targets = allocator.allocate(4L * total);
+            BufferRegion weights = allocator.allocate(8L * total);
+            try {
+                pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(c -> {
+                    int[] map = remap[c];
+                    long[] cursor = cursors[c];
+                    try {
+                        parse(channel, bounds[c], bounds[c + 1], tables[c], (source, destination, weight) -> {
+                            long slot = cursor[source]++;
+                            targets.putInt(slot << 2, map[destination]);
+                            weights.putDouble(slot << 3, weight);
+                            if (!directed) {
+                                slot = cursor[destination]++;
+                                targets.putInt(slot << 2, map[source]);
+                                weights.putDouble(slot << 3, weight);
+                            }
+                        });
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })).join();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            List<String> vertices = new ArrayList<>(n);
+            for (int id = 0; id < n; id++) {
+                vertices.add(names.name(id));
+            }
+            BufferCsrStore store = BufferCsrStore.compactRows(rowStarts, targets, weights, allocator);
+            return new Graph(vertices, directed, allocator, store);
+        }
+    }
+
+    /** Per-chunk row sizes, indexed by the chunk's own name ids. */
+    private static final class RowCounts {
+        private int[] counts = new int[1 << 10];
+
+        void add(int id) {
+            if (id >= counts.length) counts = Arrays.copyOf(counts, Math.max(id + 1, counts.length << 1));
+            counts[id]++;
+        }
+
+        int get(int id) {
+            return id < counts.length ? counts[id] : 0;
+        }
+    }
+
+    /** Chunk start offsets, each just after a newline, ending with the file size. */
+    private static long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = CHUNK_SIZE;
+        while (position < size) {
+            long lineEnd = -1;
+            while (lineEnd < 0 && position < size) {
+                probe.clear();
+                int read = channel.read(probe, position);
+                if (read <= 0) break;
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        lineEnd = position + i + 1;
+                        break;
+                    }
+                }
+                if (lineEnd < 0) position += read;
+            }
+            if (lineEnd < 0 || lineEnd >= size) break;
+            bounds.add(lineEnd);
+            position = lineEnd + CHUNK_SIZE;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Edges of one chunk, with endpoints as ids into the chunk's own name table. */
+    private static final class Chunk {
+        final ByteNameTable names = new ByteNameTable();
+        final EdgeBuffer edges = new EdgeBuffer(1 << 12);
+    }
+
+    /** Receives the edges of one chunk, with endpoints as ids into the chunk's name table. */
+    @FunctionalInterface
+    private interface EdgeSink {
+        void accept(int source, int destination, double weight);
+    }
+
+    private static void parse(FileChannel channel, long start, long end, ByteNameTable names, EdgeSink sink)
+            throws IOException {
+        if (end <= start) return;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = buffer.limit();
+        int pos = 0;
+        while (pos < limit) {
+            pos = skipBlanks(buffer, pos, limit);
+            if (pos >= limit) break;
+            byte first = buffer.get(pos);
+            if (first == '\n' || first == '\r') {
+                pos++;
+                continue;
+            }
+            if (first == '#' || first == '%') {
+                pos = nextLine(buffer, pos, limit);
+                continue;
+            }
+
+            int srcEnd = tokenEnd(buffer, pos, limit);
+            int source = names.intern(buffer, pos, srcEnd);
+            pos = skipBlanks(buffer, srcEnd, limit);
+            int dstEnd = tokenEnd(buffer, pos, limit);
+            if (dstEnd == pos) {
+                throw new IOException("Malformed edge at byte " + (start + pos) + ": missing destination");
+            }
+            int destination = names.intern(buffer, pos, dstEnd);
+            pos = skipBlanks(buffer, dstEnd, limit);
+            int weightEnd = tokenEnd(buffer, pos, limit);
+            double weight = weightEnd == pos ? 1.0 : parseDouble(buffer, pos, weightEnd, start);
+            pos = skipBlanks(buffer, weightEnd, limit);
+            if (pos < limit && buffer.get(pos) != '\n' && buffer.get(pos) != '\r') {
+                throw new IOException("Malformed edge at byte " + (start + pos) + ": unexpected text after the weight");
+            }
+
+            sink.accept(source, destination, weight);
+            pos = nextLine(buffer, pos, limit);
+        }
+    }
+
+    private static Graph build(Chunk[] chunks, boolean directed, ForkJoinPool pool) {
+        // Merge chunk name tables in file order
+        ByteNameTable names = new ByteNameTable();
+        int[][] remap = new int[chunks.length][];
+        int[] firstEdge = new int[chunks.length + 1];
+        for (int c = 0; c < chunks.length; c++) {
+            ByteNameTable local = chunks[c].names;
+            remap[c] = new int[local.size()];
+            for (int id = 0; id < local.size(); id++) {
+                remap[c][id] = names.intern(local, id);
+            }
+            firstEdge[c + 1] = Math.addExact(firstEdge[c], chunks[c].edges.size());
+        }
+
+        int count = firstEdge[chunks.length];
+        int total = directed ? count : Math.multiplyExact(count, 2);
+        int[] sources = new int[total];
+        int[] targets = new int[total];
+        double[] weights = new double[total];
+        pool.submit(() -> IntStream.range(0, chunks.length).parallel().forEach(c -> {
+            EdgeBuffer edges = chunks[c].edges;
+            int[] map = remap[c];
+            for (int i = 0, at = firstEdge[c]; i < edges.size(); i++, at++) {
+                sources[at] = map[edges.source(i)];
+                targets[at] = map[edges.target(i)];
+                weights[at] = edges.weight(i);
+                if (!directed) {
+                    sources[count + at] = targets[at];
+                    targets[count + at] = sources[at];
+                    weights[count + at] = weights[at];
+                }
+            }
+        })).join();
+
+        List<String> vertices = new ArrayList<>(names.size());
+        for (int id = 0; id < names.size(); id++) {
+            vertices.add(names.name(id));
+        }
+        Graph graph = new Graph(vertices, directed);
+        graph.addEdges(EdgeBuffer.wrap(sources, targets, weights, total));
+        graph.freeze();
+        return graph;
+    }
+
+    private static int skipBlanks(ByteBuffer buffer, int pos, int limit) {
+        while (pos < limit) {
+            byte b = buffer.get(pos);
+            if (b != ' ' && b != '\t' && b != ',') break;
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int tokenEnd(ByteBuffer buffer, int pos, int limit) {
+        while (pos < limit) {
+            byte b = buffer.get(pos);
+            if (b == ' ' || b == '\t' || b == ',' || b == '\n' || b == '\r') break;
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int nextLine(ByteBuffer buffer, int pos, int limit) {
+        while (pos < limit && buffer.get(pos) != '\n') pos++;
+        return pos + 1;
+    }
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parses a decimal weight in place. Plain numbers with at most 15 significant digits
+     * are exact; exponents and longer mantissas fall back to Double.parseDouble once the
+     * token is known to be plain decimal syntax, so Java-only forms such as "1.5f", "0x1p3",
+     * "NaN" or "Infinity" are rejected rather than accepted as weights.
+     */
+    private static double parseDouble(ByteBuffer buffer, int from, int to, long chunkStart) throws IOException {
+        int pos = from;
+        boolean negative = false;
+        byte b = buffer.get(pos);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean anyDigit = false;
+        boolean seenPoint = false;
+        for (; pos < to; pos++) {
+            b = buffer.get(pos);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                anyDigit = true;
+                if (mantissa != 0) digits++;
+                if (seenPoint) fractionDigits++;
+            } else if (b == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (pos == to && anyDigit && digits <= 15 && fractionDigits < POWERS_OF_TEN.length) {
+            double value = mantissa / POWERS_OF_TEN[fractionDigits];
+            return negative ? -value : value;
+        }
+
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = buffer.get(from + i);
+        String text = new String(bytes, StandardCharsets.US_ASCII);
+        if (!isDecimal(buffer, from, to)) {
+            throw new IOException("Malformed weight at byte " + (chunkStart + from) + ": \"" + text + "\"");
+        }
+        double value = Double.parseDouble(text);
+        if (Double.isInfinite(value)) {
+            throw new IOException("Weight out of range at byte " + (chunkStart + from) + ": \"" + text + "\"");
+        }
+        return value;
+    }
+
+    /** Whether the token is [sign] digits [. digits] [e [sign] digits], with at least one mantissa digit. */
+    private static boolean isDecimal(ByteBuffer buffer, int from, int to) {
+        int pos = from;
+        byte b = buffer.get(pos);
+        if (b == '-' || b == '+') pos++;
+        int mantissaDigits = 0;
+        boolean seenPoint = false;
+        for (; pos < to; pos++) {
+            b = buffer.get(pos);
+            if (b >= '0' && b <= '9') {
+                mantissaDigits++;
+            } else if (b == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (mantissaDigits == 0) return false;
+        if (pos == to) return true;
+        if (b != 'e' && b != 'E') return false;
+        pos++;
+        if (pos < to && (buffer.get(pos) == '-' || buffer.get(pos) == '+')) pos++;
+        int exponentDigits = 0;
+        for (; pos < to && buffer.get(pos) >= '0' && buffer.get(pos) <= '9'; pos++) exponentDigits++;
+        return exponentDigits > 0 && pos == to;
+    }
+}
@@ -0,0 +1,102 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Cache-blocked, parallel Floyd-Warshall over a flat row-major distance matrix.
+ *
+ * The matrix is split into BLOCK x BLOCK tiles. For each pivot tile k the diagonal tile is
+ * relaxed first, then the tiles in row k and column k (in parallel), then every remaining tile
+ * (in parallel). Each phase only reads tiles that earlier phases have finished, so tiles in
+ * the same phase can run concurrently.
+ */
+final class FloydWarshall {
+    private static final int BLOCK = 64;
+
+    private FloydWarshall() {
+    }
+
+    /**
+     * @throws IllegalStateException if the graph contains a negative cycle
+     */
+    static AllPairsShortestPaths run(AdjacencyStore adj, ForkJoinPool pool) {
+        int n = adj.numVertices();
+        double[] dist = new double[n * n];
+        int[] next = new int[n * n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+        for (int i = 0; i < n; i++) {
+            for (long e = adj.edgeStart(i), end = adj.edgeEnd(i); e < end; e++) {
+                int j = adj.target(e);
+                dist[i * n + j] = adj.weight(e);
+                next[i * n + j] = j;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (dist[i * n + i] > 0) dist[i * n + i] = 0;
+            next[i * n + i] = i;
+        }
+
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        for (int kb = 0; kb < blocks; kb++) {
+            final int k = kb;
+            relaxTile(dist, next, n, k, k, k);
+
+            // Row k and column k tiles depend only on the diagonal tile
+            parallel(pool, 2 * blocks, t -> {
+                int other = t >> 1;
+                if (other == k) return;
+                if ((t & 1) == 0) {
+                    relaxTile(dist, next, n, k, other, k);
+                } else {
+                    relaxTile(dist, next, n, other, k, k);
+                }
+            });
+
+            // Remaining tiles depend only on their row-k and column-k tiles
+            parallel(pool, blocks * blocks, t -> {
+                int ib = t / blocks;
+                int jb = t % blocks;
+                if (ib == k || jb == k) return;
+                relaxTile(dist, next, n, ib, jb, k);
+            });
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (dist[i * n + i] < 0) {
+                throw new IllegalStateException("Graph contains a negative cycle through vertex " + i);
+            }
+        }
+        return new AllPairsShortestPaths(n, dist, next);
+    }
+
+    /** Relaxes tile (ib, jb) through every pivot in tile kb. */
+    private static void relaxTile(double[] dist, int[] next, int n, int ib, int jb, int kb) {
+        int iEnd = Math.min(n, (ib + 1) * BLOCK);
+        int jStart = jb * BLOCK;
+        int jEnd = Math.min(n, jStart + BLOCK);
+        for (int k = kb * BLOCK, kEnd = Math.min(n, k + BLOCK); k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = ib * BLOCK; i < iEnd; i++) {
+                int iRow = i * n;
+                double dik = dist[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                int hop = next[iRow + k];
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = dik + dist[kRow + j];
+                    if (candidate < dist[iRow + j]) {
+                        dist[iRow + j] = candidate;
+                        next[iRow + j] = hop;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void parallel(ForkJoinPool pool, int tasks, IntConsumer body) {
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(body)).join();
+    }
+}
@@ -0,0 +1,201 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Force-directed layout (Fruchterman-Reingold) with Barnes-Hut repulsion.
+ *
+ * Each {@link #step()} rebuilds a quadtree over the current positions, computes every
+ * vertex's displacement in parallel (repulsion from the tree, attraction along its edges,
+ * and a weak pull toward the centroid), then moves each vertex by at most the current
+ * temperature. The temperature cools geometrically, so the layout settles; callers can
+ * read positions between steps to show it converging.
+ *
+ * Coordinates are in world units with an ideal edge length of {@link #EDGE_LENGTH}.
+ */
+public class ForceLayout {
+    public static final double EDGE_LENGTH = 60;
+
+    private static final double THETA = 0.9;
+    private static final double GRAVITY = 0.02;
+    private static final double COOLING = 0.95;
+    private static final double MIN_TEMPERATURE = EDGE_LENGTH * 0.01;
+    // Vertices per parallel task
+    private static final int BLOCK = 256;
+
+    private final AdjacencyStore out;
+    private final AdjacencyStore in;
+    private final ForkJoinPool pool;
+    private final int n;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] dispX;
+    private final double[] dispY;
+    private final double[] blockMaxMove;
+    private final BarnesHutTree tree;
+
+    private double temperature;
+    private double lastMaxMove = Double.POSITIVE_INFINITY;
+    private int iteration;
+
+    public ForceLayout(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Lays out the graph's current edges; edges added afterwards are not seen.
+     * Starts from a deterministic random placement in a square sized for the vertex count.
+     */
+    public ForceLayout(Graph graph, ForkJoinPool pool) {
+        this.out = graph.store();
+        this.in = graph.isDirected() ? graph.reverseStore() : null;
+        this.pool = pool;
+        this.n = out.numVertices();
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.dispX = new double[n];
+        this.dispY = new double[n];
+        this.blockMaxMove = new double[(n + BLOCK - 1) / BLOCK];
+        this.tree = new BarnesHutTree(n);
+
+        double side = EDGE_LENGTH * Math.sqrt(Math.max(n, 1));
+        Random random = new Random(42);
+        for (int v = 0; v < n; v++) {
+            xs[v] = random.nextDouble() * side;
+            ys[v] = random.nextDouble() * side;
+        }
+        this.temperature = side / 10;
+    }
+
+    /**
+     * Start from the given coordinates instead, e.g. to refine an existing layout.
+     * NaN entries keep their random placement. Resets the temperature to a gentle value.
+     */
+    public ForceLayout setPositions(double[] x, double[] y) {
+        if (x.length != n || y.length != n) {
+            throw new IllegalArgumentException("Expected " + n + " coordinates, got " + x.length + " and " + y.length);
+        }
+        for (int v = 0; v < n; v++) {
+            if (!Double.isNaN(x[v]) && !Double.isNaN(y[v])) {
+                xs[v] = x[v];
+                ys[v] = y[v];
+            }
+        }
+        temperature = EDGE_LENGTH;
+        lastMaxMove = Double.POSITIVE_INFINITY;
+        return this;
+    }
+
+    /**
+     * Run one iteration.
+     * @return the largest distance any vertex moved
+     */
+    public double step() {
+        if (n == 0) return 0;
+        tree.build(xs, ys, n);
+
+        double k2 = EDGE_LENGTH * EDGE_LENGTH;
+        double cx = 0, cy = 0;
+        for (int v = 0; v < n; v++) {
+            cx += xs[v];
+            cy += ys[v];
+        }
+        double centerX = cx / n, centerY = cy / n;
+
+        forRange(blockMaxMove.length, block -> {
+            int[] stack = BarnesHutTree.newStack();
+            double[] force = new double[2];
+            for (int v = block * BLOCK, end = Math.min(n, v + BLOCK); v < end; v++) {
+                force[0] = 0;
+                force[1] = 0;
+                tree.repulsion(v, xs[v], ys[v], THETA, k2, stack, force);
+                attract(v, out, force);
+                if (in != null) attract(v, in, force);
+                force[0] -= GRAVITY * (xs[v] - centerX);
+                force[1] -= GRAVITY * (ys[v] - centerY);
+                dispX[v] = force[0];
+                dispY[v] = force[1];
+            }
+        });
+
+        double limit = temperature;
+        forRange(blockMaxMove.length, block -> {
+            double maxMove = 0;
+            for (int v = block * BLOCK, end = Math.min(n, v + BLOCK); v < end; v++) {
+                double length = Math.hypot(dispX[v], dispY[v]);
+                if (length == 0) continue;
+                double move = Math.min(length, limit);
+                xs[v] += dispX[v] / length * move;
+                ys[v] += dispY[v] / length * move;
+                maxMove = Math.max(maxMove, move);
+            }
+            blockMaxMove[block] = maxMove;
+        });
+
+        double maxMove = 0;
+        for (double m : blockMaxMove) maxMove = Math.max(maxMove, m);
+        temperature = Math.max(MIN_TEMPERATURE, temperature * COOLING);
+        lastMaxMove = maxMove;
+        iteration++;
+        return maxMove;
+    }
+
+    /** Attraction d^2 / k toward every neighbor in the vertex's row. */
+    private void attract(int v, AdjacencyStore adj, double[] force) {
+        double x = xs[v], y = ys[v];
+        for (long e = adj.edgeStart(v), end = adj.edgeEnd(v); e < end; e++) {
+            int u = adj.target(e);
+            if (u == v) continue;
+            double dx = x - xs[u];
+            double dy = y - ys[u];
+            double d = Math.sqrt(dx * dx + dy * dy);
+            force[0] -= dx * d / EDGE_LENGTH;
+            force[1] -= dy * d / EDGE_LENGTH;
+        }
+    }
+
+    /**
+     * Step until converged or maxIterations is reached.
+     * @return the number of iterations run
+     */
+    public int run(int maxIterations) {
+        int steps = 0;
+        while (steps < maxIterations && !isConverged()) {
+            step();
+            steps++;
+        }
+        return steps;
+    }
+
+    /** Whether the last step moved every vertex less than the cooled temperature floor. */
+    public boolean isConverged() {
+        return n == 0 || lastMaxMove <= MIN_TEMPERATURE;
+    }
+
+    public int getIteration() {
+        return iteration;
+    }
+
+    /** Copy of the x coordinates, indexed by vertex. */
+    public double[] getX() {
+        return Arrays.copyOf(xs, n);
+    }
+
+    /** Copy of the y coordinates, indexed by vertex. */
+    public double[] getY() {
+        return Arrays.copyOf(ys, n);
+    }
+
+    private void forRange(int count, IntConsumer body) {
+        if (count <= 1) {
+            for (int i = 0; i < count; i++) body.accept(i);
+        } else {
+            pool.submit(() -> IntStream.range(0, count).parallel().forEach(body)).join();
+        }
+    }
+}
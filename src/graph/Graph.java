@@ -0,0 +1,1163 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Graph class that supports both directed and undirected graphs.
+ * Implements both Adjacency List and Adjacency Matrix representations.
+ */
+public class Graph {
+    private int numVertices;
+    private boolean isDirected;
+    private VertexDictionary vertices; // Vertex names by index, and indices by name
+
+    // Edges added or removed since the last freeze(), compacted into the CSR store on demand
+    private EdgeBuffer pendingEdges;
+
+    // Vertices removed since the last freeze(); the merge drops their edges
+    private BitSet removedSinceFreeze;
+
+    // (source, target) -> weight over all current edges, built by the first update that needs it
+    private volatile EdgeIndex edgeIndex;
+
+    // CSR adjacency list: the neighbors of vertex i sorted by index, with weights
+    private AdjacencyStore store;
+
+    // double[][] where matrix[i][j] represents edge weight from vertex i to j.
+    // Materialized from the store on first request; null until then.
+    private double[][] adjacencyMatrix;
+    private volatile int matrixModCount = -1;
+
+    // Transpose of the store for directed graphs, rebuilt after changes
+    private AdjacencyStore reverse;
+    private volatile int reverseModCount = -1;
+
+    // Cached all-pairs result, valid while allPairsModCount == modCount
+    private AllPairsShortestPaths allPairs;
+    private volatile int allPairsModCount = -1;
+
+    // Serializes building the lazily derived views, so concurrent readers of a snapshot build
+    // each one once. A view is written before its volatile mod count (or the volatile field
+    // itself), and readers check that first, so they never see a half-built view.
+    private final Object derivedLock = new Object();
+
+    // Traversal working memory, reused across queries
+    private final AtomicReference<TraversalScratch> scratchSlot = new AtomicReference<>();
+
+    // Incremental union-find over the edges; null until first needed for loaded stores
+    private volatile ConnectivityIndex connectivity;
+
+    // Where off-heap graphs allocate their stores; null keeps them on the heap
+    private OffHeapAllocator offHeap;
+
+    // Snapshots published by ConcurrentGraph reject writes
+    private boolean readOnly;
+
+    // Optional instrumentation; when both are null and JFR is off, bfs/dfs run uninstrumented
+    private GraphMetrics metrics;
+    private TraversalListener listener;
+
+    // Optional cache of bfs, dfs and shortestPath results, keyed by modCount
+    private QueryCache queryCache;
+
+    // Incremented on every structural change, used to invalidate derived views
+    private int modCount;
+
+    // Largest matrix getAdjacencyMatrix() will allocate (2 GB of doubles)
+    private static final long MAX_MATRIX_CELLS = 1L << 28;
+
+    // Off-heap graphs merge buffered addEdge calls once this many are pending, bounding the heap.
+    // Each merge rewrites the whole store, so addEdge suits incremental updates; bulk builds
+    // go through EdgeListLoader.loadOffHeap, which writes every edge once.
+    private static final int OFF_HEAP_PENDING_LIMIT = 1 << 22;
+
+    /**
+     * Inner class to represent an edge with destination and weight.
+     */
+    public static class Edge {
+        int destination;
+        double weight;
+
+        public Edge(int destination, double weight) {
+            this.destination = destination;
+            this.weight = weight;
+        }
+
+        public int getDestination() { return destination; }
+        public double getWeight() { return weight; }
+
+        @Override
+        public String toString() {
+            return "(" + destination + ", w:" + weight + ")";
+        }
+    }
+
+    /**
+     * Constructor: Initialize the graph structures.
+     * @param vertices List of vertex names
+     * @param isDirected Whether the graph is directed
+     */
+    public Graph(List<String> vertices, boolean isDirected) {
+        this(vertices, isDirected, CsrStore.empty(vertices.size()), new ConnectivityIndex(vertices.size()));
+    }
+
+    /**
+     * Wraps an existing adjacency store, e.g. one mapped from a snapshot file.
+     * Edges added later are merged into a new on-heap store.
+     */
+    Graph(List<String> vertices, boolean isDirected, AdjacencyStore store) {
+        this(vertices, isDirected, store, null);
+    }
+
+    /**
+     * Shared setup of writable graphs over a store that already has a row per vertex.
+     * @param connectivity Union-find matching the store's edges, or null to build it on demand
+     */
+    private Graph(List<String> vertices, boolean isDirected, AdjacencyStore store, ConnectivityIndex connectivity) {
+        if (store.numVertices() != vertices.size()) {
+            throw new IllegalArgumentException("Store has " + store.numVertices() + " vertices, expected " + vertices.size());
+        }
+        this.numVertices = vertices.size();
+        this.isDirected = isDirected;
+
+        // Map vertex names to indices
+        this.vertices = VertexDictionary.of(vertices);
+
+        this.pendingEdges = new EdgeBuffer();
+        this.store = store;
+        this.connectivity = connectivity;
+
+        // The adjacency matrix is built lazily by getAdjacencyMatrix()
+    }
+
+    /**
+     * Read-only graph over the given store that shares the template's vertex names.
+     * Used for immutable snapshots, so creating one costs O(1) beyond the store itself.
+     */
+    Graph(Graph template, AdjacencyStore store) {
+        if (store.numVertices() != template.numVertices) {
+            throw new IllegalArgumentException("Store has " + store.numVertices() + " vertices, expected " + template.numVertices);
+        }
+        this.numVertices = template.numVertices;
+        this.isDirected = template.isDirected;
+        this.vertices = template.vertices;
+        this.pendingEdges = new EdgeBuffer(1);
+        this.store = store;
+        this.readOnly = true;
+    }
+
+    /**
+     * Graph whose adjacency offsets, targets and weights live in direct memory outside the
+     * Java heap. Queries read that memory in place; edge ids are longs, so the edge count is
+     * not limited to 2^31.
+     *
+     * Direct memory is capped by -XX:MaxDirectMemorySize, which defaults to the maximum heap
+     * size. Storage that would not fit under the cap is backed by temporary memory-mapped
+     * files in java.io.tmpdir instead; raise the flag to keep larger graphs in RAM, or use
+     * {@link #offHeap(List, boolean, Path)} to choose where the files go.
+     *
+     * addEdge suits incremental updates: every few million pending edges it rewrites the whole
+     * store. To build a large graph from an edge list, {@link EdgeListLoader#loadOffHeap}
+     * writes each edge once instead.
+     * @param vertices List of vertex names
+     * @param isDirected Whether the graph is directed
+     */
+    public static Graph offHeap(List<String> vertices, boolean isDirected) {
+        return new Graph(vertices, isDirected, new OffHeapAllocator(null));
+    }
+
+    /**
+     * Off-heap graph whose storage is backed by temporary memory-mapped files in the
+     * directory, so the OS pages adjacency in and out instead of holding it all in RAM.
+     * @param directory Directory for the (unlinked) backing files
+     */
+    public static Graph offHeap(List<String> vertices, boolean isDirected, Path directory) {
+        return new Graph(vertices, isDirected, new OffHeapAllocator(directory));
+    }
+
+    private Graph(List<String> vertices, boolean isDirected, OffHeapAllocator offHeap) {
+        this(vertices, isDirected, BufferCsrStore.empty(vertices.size(), offHeap), new ConnectivityIndex(vertices.size()));
+        this.offHeap = offHeap;
+    }
+
+    /** Off-heap graph over a store already built with the allocator, e.g. by a bulk load. */
+    Graph(List<String> vertices, boolean isDirected, OffHeapAllocator offHeap, BufferCsrStore store) {
+        this(vertices, isDirected, store);
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * Write the graph to a binary snapshot file that {@link #openSnapshot(Path)} can map back in.
+     * @param file Destination file, replaced if it exists
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        BinarySnapshot.write(this, file);
+    }
+
+    /**
+     * Open a snapshot written by {@link #writeSnapshot(Path)}. The edges stay in the mapped
+     * file and are paged in as queries touch them.
+     */
+    public static Graph openSnapshot(Path file) throws IOException {
+        return BinarySnapshot.open(file);
+    }
+
+    /**
+     * Add an edge to the graph.
+     * @param source Source vertex name
+     * @param destination Destination vertex name
+     * @param weight Edge weight
+     */
+    public void addEdge(String source, String destination, double weight) {
+        if (metrics == null) {
+            insertEdge(source, destination, weight);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        insertEdge(source, destination, weight);
+        metrics.record(GraphMetrics.Operation.ADD_EDGE, 0, 0, 0, System.nanoTime() - startNanos);
+    }
+
+    private void insertEdge(String source, String destination, double weight) {
+        checkWritable();
+
+        // Validation: Ensure vertices exist
+        int srcIdx = vertices.indexOf(source);
+        int destIdx = vertices.indexOf(destination);
+        if (srcIdx < 0 || destIdx < 0) {
+            throw new IllegalArgumentException("One or more vertices not found in graph.");
+        }
+
+        // Buffer the edge; it joins the CSR store on the next freeze()
+        bufferEdge(srcIdx, destIdx, weight);
+
+        // Handle Undirected Graphs: add the reverse edge (destination -> source)
+        if(!isDirected || Math.random() <= 0.75)
+        {
+            bufferEdge(destIdx, srcIdx, weight);
+        }
+        if (connectivity != null) {
+            connectivity.union(srcIdx, destIdx);
+        }
+        modCount++;
+        if (offHeap != null && pendingEdges.size() >= OFF_HEAP_PENDING_LIMIT) {
+            freeze();
+        }
+    }
+
+    /**
+     * Buffers source -> target. With the edge index built, re-adding an existing edge with the
+     * same weight is detected in O(1) and buffers nothing; a new weight replaces the old one.
+     */
+    private void bufferEdge(int source, int target, double weight) {
+        if (edgeIndex != null) {
+            double previous = edgeIndex.weight(source, target);
+            if (!edgeIndex.put(source, target, weight) && previous == weight) return;
+        }
+        pendingEdges.add(source, target, weight);
+    }
+
+    /**
+     * Add a vertex with no edges. Backing arrays grow geometrically, so this is amortized O(1);
+     * the adjacency store gains the new row on the next freeze().
+     * @return the new vertex's index
+     * @throws IllegalArgumentException if a vertex with that name exists
+     */
+    public int addVertex(String name) {
+        checkWritable();
+        int index = vertices.add(name);
+        numVertices++;
+        if (connectivity != null) {
+            connectivity.grow(numVertices);
+        }
+        modCount++;
+        return index;
+    }
+
+    /**
+     * Remove a vertex and every edge into or out of it. Its index is retired rather than reused,
+     * so other vertices keep their indices; getVertexName returns null for it.
+     * @return false if there is no such vertex
+     */
+    public boolean removeVertex(String name) {
+        checkWritable();
+        int index = vertices.indexOf(name);
+        if (index < 0) return false;
+        vertices.remove(index);
+        if (removedSinceFreeze == null) {
+            removedSinceFreeze = new BitSet(numVertices);
+        }
+        removedSinceFreeze.set(index);
+        // Both would need a scan of the vertex's edges to repair; rebuild them on demand instead
+        edgeIndex = null;
+        connectivity = null;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Remove the edge source -> destination, and destination -> source for undirected graphs.
+     * Found in O(1) through the edge index.
+     * @return false if there was no such edge
+     * @throws IllegalArgumentException if either vertex does not exist
+     */
+    public boolean removeEdge(String source, String destination) {
+        checkWritable();
+        int srcIdx = requireVertex(source);
+        int destIdx = requireVertex(destination);
+        EdgeIndex index = edgeIndex();
+        if (!index.remove(srcIdx, destIdx)) return false;
+        pendingEdges.remove(srcIdx, destIdx);
+        if (!isDirected && index.remove(destIdx, srcIdx)) {
+            pendingEdges.remove(destIdx, srcIdx);
+        }
+        // Union-find cannot split a component; rebuild it on the next connectivity query
+        connectivity = null;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Change the weight of an existing edge (both directions for undirected graphs).
+     * @throws IllegalArgumentException if either vertex or the edge does not exist
+     */
+    public void updateWeight(String source, String destination, double weight) {
+        checkWritable();
+        int srcIdx = requireVertex(source);
+        int destIdx = requireVertex(destination);
+        EdgeIndex index = edgeIndex();
+        if (!index.contains(srcIdx, destIdx)) {
+            throw new IllegalArgumentException("No edge from " + source + " to " + destination);
+        }
+        bufferEdge(srcIdx, destIdx, weight);
+        if (!isDirected) {
+            bufferEdge(destIdx, srcIdx, weight);
+        }
+        modCount++;
+    }
+
+    /**
+     * Whether the edge source -> destination exists, answered in O(1) from the edge index.
+     */
+    public boolean hasEdge(String source, String destination) {
+        int srcIdx = vertices.indexOf(source);
+        int destIdx = vertices.indexOf(destination);
+        return srcIdx >= 0 && destIdx >= 0 && edgeIndex().contains(srcIdx, destIdx);
+    }
+
+    private EdgeIndex edgeIndex() {
+        EdgeIndex index = edgeIndex;
+        if (index == null) {
+            synchronized (derivedLock) {
+                index = edgeIndex;
+                if (index == null) {
+                    index = EdgeIndex.build(store());
+                    edgeIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Bulk insert for loaders: merges the buffered edges into the store as given,
+     * without adding reverse edges for undirected graphs.
+     */
+    void addEdges(EdgeBuffer edges) {
+        checkWritable();
+        for (int i = 0; i < edges.size(); i++) {
+            Objects.checkIndex(edges.source(i), numVertices);
+            Objects.checkIndex(edges.target(i), numVertices);
+        }
+        freeze();
+        store = merge(store, edges);
+        edgeIndex = null;
+        if (connectivity != null) {
+            for (int i = 0; i < edges.size(); i++) {
+                connectivity.union(edges.source(i), edges.target(i));
+            }
+        }
+        modCount++;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Graph snapshot is read-only");
+        }
+    }
+
+    /**
+     * Compact every edge added since the last call into the CSR store.
+     * Called automatically before any read, so loaders only need to call it
+     * to pay the compaction cost up front.
+     */
+    public void freeze() {
+        if (pendingEdges.size() == 0 && removedSinceFreeze == null && store.numVertices() == numVertices) return;
+        store = merge(store, pendingEdges);
+        pendingEdges = new EdgeBuffer();
+    }
+
+    /** Merges the edges into base, also applying vertices added or removed since the last freeze. */
+    private AdjacencyStore merge(AdjacencyStore base, EdgeBuffer edges) {
+        BitSet dropped = removedSinceFreeze;
+        removedSinceFreeze = null;
+        return offHeap == null
+                ? CsrStore.merge(base, edges, numVertices, dropped)
+                : BufferCsrStore.merge(base, edges, numVertices, dropped, offHeap);
+    }
+
+    AdjacencyStore store() {
+        freeze();
+        return store;
+    }
+
+    /**
+     * Perform Breadth-First Search (BFS).
+     * Traverses the graph layer-by-layer using a Queue.
+     * @param startVertex Name of the starting vertex
+     * @return List of vertex names in BFS order
+     */
+    public List<String> bfs(String startVertex) {
+        int start = vertices.indexOf(startVertex);
+        if (start < 0) return new ArrayList<>();
+        return toNames(bfsOrder(start));
+    }
+
+    /**
+     * BFS over vertex indices. Neighbors are visited in ascending index order.
+     * @param start Index of the starting vertex
+     * @return Vertex indices in BFS order
+     */
+    public int[] bfsIndices(int start) {
+        QueryCache cache = queryCache;
+        int[] order = bfsOrder(start);
+        // Cached arrays are shared; hand out a copy
+        return cache == null ? order : order.clone();
+    }
+
+    /** BFS order from the query cache when one is attached, else freshly computed. */
+    private int[] bfsOrder(int start) {
+        Objects.checkIndex(start, numVertices);
+        QueryCache cache = queryCache;
+        // A listener expects per-vertex callbacks, which a cached order cannot replay
+        if (cache == null || listener != null) return runBfs(start);
+        GraphQueryEvent event = metrics != null || GraphQueryEvent.enabled() ? new GraphQueryEvent() : null;
+        if (event != null) event.begin();
+        long startNanos = event != null ? System.nanoTime() : 0;
+        int version = modCount;
+        int[] order = cache.get(QueryCache.Kind.BFS, start, -1, version);
+        if (order == null) {
+            order = runBfs(start);
+            cache.put(QueryCache.Kind.BFS, start, -1, version, order);
+        } else if (event != null) {
+            InstrumentedTraversal.cacheHit(GraphMetrics.Operation.BFS, start, order.length, startNanos, metrics, event);
+        }
+        return order;
+    }
+
+    private int[] runBfs(int start) {
+        AdjacencyStore adj = store();
+        TraversalScratch scratch = TraversalScratch.borrow(scratchSlot, numVertices);
+        try {
+            if (metrics != null || listener != null || GraphQueryEvent.enabled()) {
+                return InstrumentedTraversal.bfs(adj, start, scratch, metrics, listener, new GraphQueryEvent());
+            }
+            IntQueue queue = scratch.queue;
+            VisitMarks visited = scratch.visited;
+            int[] order = scratch.order;
+            int count = 0;
+
+            visited.mark(start);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                order[count++] = current;
+                for (long e = adj.edgeStart(current), end = adj.edgeEnd(current); e < end; e++) {
+                    int next = adj.target(e);
+                    if (visited.mark(next)) {
+                        queue.add(next);
+                    }
+                }
+            }
+            return Arrays.copyOf(order, count);
+        } finally {
+            TraversalScratch.release(scratchSlot, scratch);
+        }
+    }
+
+    /**
+     * Perform Depth-First Search (DFS).
+     * Traverses the graph by going as deep as possible using a Stack (or recursion).
+     * @param startVertex Name of the starting vertex
+     * @return List of vertex names in DFS order
+     */
+    public List<String> dfs(String startVertex) {
+        int start = vertices.indexOf(startVertex);
+        if (start < 0) return new ArrayList<>();
+        return toNames(dfsOrder(start));
+    }
+
+    /**
+     * Iterative DFS over vertex indices. Vertices are marked when pushed, and neighbors
+     * are pushed in descending index order so the lowest-index neighbor is popped first.
+     * @param start Index of the starting vertex
+     * @return Vertex indices in DFS order
+     */
+    public int[] dfsIndices(int start) {
+        QueryCache cache = queryCache;
+        int[] order = dfsOrder(start);
+        // Cached arrays are shared; hand out a copy
+        return cache == null ? order : order.clone();
+    }
+
+    /** DFS order from the query cache when one is attached, else freshly computed. */
+    private int[] dfsOrder(int start) {
+        Objects.checkIndex(start, numVertices);
+        QueryCache cache = queryCache;
+        // A listener expects per-vertex callbacks, which a cached order cannot replay
+        if (cache == null || listener != null) return runDfs(start);
+        GraphQueryEvent event = metrics != null || GraphQueryEvent.enabled() ? new GraphQueryEvent() : null;
+        if (event != null) event.begin();
+        long startNanos = event != null ? System.nanoTime() : 0;
+        int version = modCount;
+        int[] order = cache.get(QueryCache.Kind.DFS, start, -1, version);
+        if (order == null) {
+            order = runDfs(start);
+            cache.put(QueryCache.Kind.DFS, start, -1, version, order);
+        } else if (event != null) {
+            InstrumentedTraversal.cacheHit(GraphMetrics.Operation.DFS, start, order.length, startNanos, metrics, event);
+        }
+        return order;
+    }
+
+    private int[] runDfs(int start) {
+        AdjacencyStore adj = store();
+        TraversalScratch scratch = TraversalScratch.borrow(scratchSlot, numVertices);
+        try {
+            if (metrics != null || listener != null || GraphQueryEvent.enabled()) {
+                return InstrumentedTraversal.dfs(adj, start, scratch, metrics, listener, new GraphQueryEvent());
+            }
+            IntStack stack = scratch.stack;
+            VisitMarks visited = scratch.visited;
+            int[] order = scratch.order;
+            int count = 0;
+
+            visited.mark(start);
+            stack.push(start);
+            while (!stack.isEmpty()) {
+                int popped = stack.pop();
+                order[count++] = popped;
+                for (long e = adj.edgeEnd(popped) - 1, first = adj.edgeStart(popped); e >= first; e--) {
+                    int next = adj.target(e);
+                    if (visited.mark(next)) {
+                        stack.push(next);
+                    }
+                }
+            }
+            return Arrays.copyOf(order, count);
+        } finally {
+            TraversalScratch.release(scratchSlot, scratch);
+        }
+    }
+
+    /**
+     * Parallel level-synchronous BFS on the common ForkJoinPool.
+     * Returns the same vertices in the same order as {@link #bfs(String)}.
+     * @param startVertex Name of the starting vertex
+     * @return List of vertex names in BFS order
+     */
+    public List<String> parallelBfs(String startVertex) {
+        int start = vertices.indexOf(startVertex);
+        if (start < 0) return new ArrayList<>();
+        return toNames(parallelBfsLevels(start, ForkJoinPool.commonPool()).getOrder());
+    }
+
+    /**
+     * Parallel, direction-optimizing BFS that also reports the size of every level.
+     * @param start Index of the starting vertex
+     * @param pool Pool that runs the per-level work
+     */
+    public BfsLevels parallelBfsLevels(int start, ForkJoinPool pool) {
+        Objects.checkIndex(start, numVertices);
+        return new ParallelBfs(store(), reverseStore(), pool).run(start);
+    }
+
+    /**
+     * BFS from many start vertices at once on the common ForkJoinPool.
+     * @param startVertices Names of the start vertices
+     * @return Reached vertices and hop distances for each start, in the given order
+     * @throws IllegalArgumentException if a vertex does not exist
+     */
+    public HopDistances multiSourceBfs(List<String> startVertices) {
+        int[] starts = new int[startVertices.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = requireVertex(startVertices.get(i));
+        }
+        return multiSourceBfs(starts, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Bit-parallel BFS from every start vertex: up to 256 sources share each scan of an edge
+     * list, and batches of sources run in parallel on the pool. Much cheaper than one
+     * bfsIndices call per start when there are many starts.
+     * @param starts Indices of the start vertices; duplicates are allowed
+     * @param pool Pool that runs the batches
+     */
+    public HopDistances multiSourceBfs(int[] starts, ForkJoinPool pool) {
+        for (int start : starts) {
+            Objects.checkIndex(start, numVertices);
+        }
+        return new MultiSourceBfs(store(), pool).run(starts);
+    }
+
+    /**
+     * Runs a vertex program bulk-synchronously on worker threads, each owning a contiguous
+     * range of vertex indices balanced by edge count. Messages between ranges are combined
+     * per target vertex and exchanged in one batch per pair of workers after each superstep.
+     * @param workers Number of partitions and threads
+     * @param maxSupersteps Stop after this many supersteps even if vertices are still active
+     * @throws IllegalArgumentException if workers is less than 1 or maxSupersteps is negative
+     */
+    public BspResult runVertexProgram(VertexProgram program, int workers, int maxSupersteps) {
+        checkBspArguments(workers, maxSupersteps);
+        return new BspEngine(store()).run(program, workers, maxSupersteps);
+    }
+
+    /**
+     * Runs a vertex program with each partition in its own child JVM. The workers map the graph
+     * from a temporary snapshot and exchange message batches with this process over loopback
+     * sockets. The program's class must be on this process's class path.
+     * @param processes Number of partitions and worker processes
+     * @throws IOException if the workers cannot be started or one of them fails
+     * @throws IllegalArgumentException if processes is less than 1 or maxSupersteps is negative
+     */
+    public BspResult runVertexProgramInProcesses(VertexProgram program, int processes, int maxSupersteps)
+            throws IOException {
+        checkBspArguments(processes, maxSupersteps);
+        return new BspCluster(this).run(program, processes, maxSupersteps);
+    }
+
+    private static void checkBspArguments(int workers, int maxSupersteps) {
+        if (workers < 1) throw new IllegalArgumentException("Need at least one worker: " + workers);
+        if (maxSupersteps < 0) throw new IllegalArgumentException("Superstep limit must not be negative: " + maxSupersteps);
+    }
+
+    /**
+     * Weighted shortest paths (Dijkstra) from one vertex to every other vertex.
+     * @param sourceVertex Name of the source vertex
+     * @throws IllegalStateException if the graph has a negative edge weight
+     */
+    public ShortestPaths shortestPaths(String sourceVertex) {
+        return shortestPaths(requireVertex(sourceVertex), -1);
+    }
+
+    /**
+     * Weighted shortest path between two vertices. The search stops once the destination is settled.
+     * @return Vertex names from source to destination, or an empty list if unreachable
+     */
+    public List<String> shortestPath(String source, String destination) {
+        int src = vertices.indexOf(source);
+        int dest = vertices.indexOf(destination);
+        if (src < 0 || dest < 0) return new ArrayList<>();
+        QueryCache cache = queryCache;
+        if (cache == null) return toNames(shortestPaths(src, dest).getPath(dest));
+        int version = modCount;
+        int[] path = cache.get(QueryCache.Kind.SHORTEST_PATH, src, dest, version);
+        if (path == null) {
+            path = shortestPaths(src, dest).getPath(dest);
+            cache.put(QueryCache.Kind.SHORTEST_PATH, src, dest, version, path);
+        }
+        return toNames(path);
+    }
+
+    /**
+     * Dijkstra from source; when target is not -1 the search stops early at the target.
+     */
+    public ShortestPaths shortestPaths(int source, int target) {
+        Objects.checkIndex(source, numVertices);
+        AdjacencyStore adj = store();
+        TraversalScratch scratch = TraversalScratch.borrow(scratchSlot, numVertices);
+        try {
+            return Dijkstra.run(adj, source, target, scratch.heap(numVertices));
+        } finally {
+            TraversalScratch.release(scratchSlot, scratch);
+        }
+    }
+
+    /**
+     * Fewest-hops path by bidirectional BFS: frontiers grow from both ends (over reversed
+     * edges from the destination) and the search stops where they meet.
+     * @throws IllegalArgumentException if either vertex does not exist
+     */
+    public Route bidirectionalBfs(String source, String destination) {
+        return bidirectionalBfs(requireVertex(source), requireVertex(destination));
+    }
+
+    public Route bidirectionalBfs(int source, int destination) {
+        Objects.checkIndex(source, numVertices);
+        Objects.checkIndex(destination, numVertices);
+        AdjacencyStore adj = store();
+        TraversalScratch scratch = TraversalScratch.borrow(scratchSlot, numVertices);
+        try {
+            return PointToPoint.bidirectionalBfs(adj, reverseStore(), source, destination,
+                    scratch.forward(numVertices), scratch.backward(numVertices));
+        } finally {
+            TraversalScratch.release(scratchSlot, scratch);
+        }
+    }
+
+    /**
+     * Weighted shortest path by bidirectional Dijkstra, stopping once no path through the
+     * unexplored middle can beat the best meeting found.
+     * @throws IllegalArgumentException if either vertex does not exist
+     * @throws IllegalStateException if the search meets a negative edge weight
+     */
+    public Route bidirectionalDijkstra(String source, String destination) {
+        return bidirectionalDijkstra(requireVertex(source), requireVertex(destination));
+    }
+
+    public Route bidirectionalDijkstra(int source, int destination) {
+        Objects.checkIndex(source, numVertices);
+        Objects.checkIndex(destination, numVertices);
+        AdjacencyStore adj = store();
+        TraversalScratch scratch = TraversalScratch.borrow(scratchSlot, numVertices);
+        try {
+            return PointToPoint.bidirectionalDijkstra(adj, reverseStore(), source, destination,
+                    scratch.forward(numVertices), scratch.backward(numVertices));
+        } finally {
+            TraversalScratch.release(scratchSlot, scratch);
+        }
+    }
+
+    /**
+     * Weighted shortest path by A*, guided toward the destination by the heuristic, e.g.
+     * {@link Heuristic#euclidean(Graph, double[], double[])} over vertex coordinates.
+     * The path is shortest whenever the heuristic never overestimates.
+     * @throws IllegalArgumentException if either vertex does not exist
+     * @throws IllegalStateException if the search meets a negative edge weight
+     */
+    public Route aStar(String source, String destination, Heuristic heuristic) {
+        return aStar(requireVertex(source), requireVertex(destination), heuristic);
+    }
+
+    public Route aStar(int source, int destination, Heuristic heuristic) {
+        Objects.checkIndex(source, numVertices);
+        Objects.checkIndex(destination, numVertices);
+        AdjacencyStore adj = store();
+        TraversalScratch scratch = TraversalScratch.borrow(scratchSlot, numVertices);
+        try {
+            return PointToPoint.aStar(adj, source, destination, heuristic, scratch.forward(numVertices));
+        } finally {
+            TraversalScratch.release(scratchSlot, scratch);
+        }
+    }
+
+    /**
+     * All-pairs shortest paths by blocked, parallel Floyd-Warshall.
+     * The result is cached and returned in O(1) until the graph next changes.
+     * @throws IllegalStateException if the graph is too large or has a negative cycle
+     */
+    public AllPairsShortestPaths allPairsShortestPaths() {
+        if (allPairsModCount == modCount) {
+            return allPairs;
+        }
+        if ((long) numVertices * numVertices > MAX_MATRIX_CELLS) {
+            throw new IllegalStateException("Graph has too many vertices for all-pairs distances: " + numVertices);
+        }
+        synchronized (derivedLock) {
+            if (allPairsModCount != modCount) {
+                allPairs = FloydWarshall.run(store(), ForkJoinPool.commonPool());
+                allPairsModCount = modCount;
+            }
+            return allPairs;
+        }
+    }
+
+    /**
+     * Whether two vertices are in the same connected component (weakly connected for directed graphs).
+     * Answered in O(alpha(n)) from the union-find that addEdge maintains.
+     */
+    public boolean connected(String a, String b) {
+        return connectivity().connected(requireVertex(a), requireVertex(b));
+    }
+
+    /**
+     * Identifier of the vertex's connected component: the index of its representative vertex.
+     * Two vertices share an id exactly when they are connected; ids may change after addEdge.
+     */
+    public int componentId(String vertex) {
+        return connectivity().find(requireVertex(vertex));
+    }
+
+    /**
+     * Number of vertices in the vertex's connected component.
+     */
+    public int componentSize(String vertex) {
+        return connectivity().componentSize(requireVertex(vertex));
+    }
+
+    /**
+     * Number of connected components (weakly connected for directed graphs).
+     */
+    public int componentCount() {
+        // Removed vertices stay behind as isolated indices; they are not components
+        return connectivity().componentCount() - (vertices.size() - vertices.liveSize());
+    }
+
+    /**
+     * Strongly connected components by an iterative Tarjan pass over the current edges.
+     * Computed on demand in O(V + E); for undirected graphs these equal the connected components.
+     * Removed vertices belong to no component.
+     */
+    public StronglyConnectedComponents stronglyConnectedComponents() {
+        return StronglyConnectedComponents.compute(store(), vertices);
+    }
+
+    private ConnectivityIndex connectivity() {
+        ConnectivityIndex index = connectivity;
+        if (index == null) {
+            synchronized (derivedLock) {
+                index = connectivity;
+                if (index == null) {
+                    index = ConnectivityIndex.build(store());
+                    // Snapshot readers share the index, so find must not compress paths under them
+                    if (readOnly) index.flatten();
+                    connectivity = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Store whose row v lists the vertices with an edge into v.
+     * Undirected graphs are symmetric, so this is the forward store itself.
+     */
+    AdjacencyStore reverseStore() {
+        AdjacencyStore forward = store();
+        if (!isDirected) return forward;
+        if (reverseModCount == modCount) return reverse;
+        synchronized (derivedLock) {
+            if (reverseModCount != modCount) {
+                reverse = offHeap == null ? CsrStore.transpose(forward) : BufferCsrStore.transpose(forward, offHeap);
+                reverseModCount = modCount;
+            }
+            return reverse;
+        }
+    }
+
+    /**
+     * Lazy traversal from the named vertex; nothing is visited until the caller iterates.
+     * @param startVertex Name of the starting vertex
+     * @param order BFS or DFS, with the same visit order as bfs/dfs
+     */
+    public Traversal traverse(String startVertex, Traversal.Order order) {
+        return traverse(requireVertex(startVertex), order);
+    }
+
+    /**
+     * Lazy traversal over vertex indices with optional depth, budget and target limits.
+     * @param start Index of the starting vertex
+     * @param order BFS or DFS, with the same visit order as bfsIndices/dfsIndices
+     */
+    public Traversal traverse(int start, Traversal.Order order) {
+        Objects.checkIndex(start, numVertices);
+        return new Traversal(store(), start, order, scratchSlot);
+    }
+
+    /**
+     * Collect counts and wall time for bfs, dfs and addEdge into the given metrics; null detaches.
+     */
+    public void setMetrics(GraphMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public GraphMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Serve repeated bfs, dfs and shortestPath queries from the cache; null detaches.
+     * Cached results are dropped automatically once the graph changes. A bfs or dfs served from
+     * the cache counts as a call in the metrics and in {@link GraphMetrics#cacheHits}, and is
+     * recorded as a JFR graph.Query event with cacheHit set. While a traversal listener is
+     * attached, bfs and dfs bypass the cache so the listener sees every vertex and edge.
+     * @throws IllegalStateException if the cache is attached to another graph
+     */
+    public void setQueryCache(QueryCache cache) {
+        if (cache != null) cache.attach(this);
+        if (queryCache != null && queryCache != cache) queryCache.detach(this);
+        this.queryCache = cache;
+    }
+
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Receive per-vertex and per-edge callbacks from bfs and dfs; null detaches.
+     */
+    public void setTraversalListener(TraversalListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sparse lookup of a single matrix cell: a hash probe once the edge index exists,
+     * otherwise a binary search in the source's row.
+     * @return the edge weight, or Double.POSITIVE_INFINITY if there is no edge
+     */
+    public double getEdgeWeight(int source, int destination) {
+        Objects.checkIndex(source, numVertices);
+        Objects.checkIndex(destination, numVertices);
+        EdgeIndex index = edgeIndex;
+        if (index != null) {
+            return index.weight(source, destination);
+        }
+        AdjacencyStore adj = store();
+        long lo = adj.edgeStart(source);
+        long hi = adj.edgeEnd(source) - 1;
+        while (lo <= hi) {
+            long mid = (lo + hi) >>> 1;
+            int target = adj.target(mid);
+            if (target < destination) {
+                lo = mid + 1;
+            } else if (target > destination) {
+                hi = mid - 1;
+            } else {
+                return adj.weight(mid);
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Index of the vertex named by any CharSequence (e.g. a StringBuilder or a slice of a
+     * larger text), without creating a String.
+     * @return the index, or -1 if there is no such vertex
+     */
+    public int findVertexIndex(CharSequence name) {
+        return vertices.indexOf(name);
+    }
+
+    /**
+     * Index of the vertex whose UTF-8 name is buffer[from, to), for loaders resolving names
+     * straight from file bytes. ASCII names are matched without allocating.
+     * @return the index, or -1 if there is no such vertex
+     */
+    public int findVertexIndex(ByteBuffer buffer, int from, int to) {
+        return vertices.indexOf(buffer, from, to);
+    }
+
+    /** Number of vertices currently in the graph. */
+    public int getVertexCount() {
+        return vertices.liveSize();
+    }
+
+    /**
+     * Version number that every structural change (addEdge, removeEdge, addVertex, ...)
+     * increments. Results computed at one version stay valid while it is unchanged.
+     */
+    public int getModificationCount() {
+        return modCount;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /** Whether the adjacency store is kept outside the Java heap. */
+    public boolean isOffHeap() {
+        return offHeap != null;
+    }
+
+    private int requireVertex(String name) {
+        int index = vertices.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Vertex not found in graph: " + name);
+        }
+        return index;
+    }
+
+    private List<String> toNames(int[] indices) {
+        List<String> names = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            names.add(vertices.name(index));
+        }
+        return names;
+    }
+
+    // ==========================================================
+    // HELPER & VISUALIZER METHODS (Do not modify)
+    // ==========================================================
+
+    /**
+     * Returns a read-only view of the vertex's CSR row. Edge objects are created
+     * on access and are not retained by the graph.
+     */
+    public List<Edge> getNeighbors(String vertex) {
+        int idx = requireVertex(vertex);
+        return new NeighborView(store(), idx);
+    }
+
+    /**
+     * Lightweight List view over one row of the adjacency store.
+     */
+    private static final class NeighborView extends AbstractList<Edge> implements RandomAccess {
+        private final AdjacencyStore store;
+        private final long start;
+        private final int size;
+
+        NeighborView(AdjacencyStore store, int vertex) {
+            this.store = store;
+            this.start = store.edgeStart(vertex);
+            this.size = store.degree(vertex);
+        }
+
+        @Override
+        public Edge get(int i) {
+            Objects.checkIndex(i, size);
+            return new Edge(store.target(start + i), store.weight(start + i));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Returns the dense matrix view, building it from the adjacency store on the first
+     * call after a change. Costs O(V^2) memory; prefer getEdgeWeight for large graphs.
+     * @throws IllegalStateException if the graph is too large for a dense matrix
+     */
+    public double[][] getAdjacencyMatrix() {
+        if (matrixModCount == modCount) {
+            return adjacencyMatrix;
+        }
+        if ((long) numVertices * numVertices > MAX_MATRIX_CELLS) {
+            throw new IllegalStateException("Graph has too many vertices for a dense matrix: " + numVertices);
+        }
+
+        synchronized (derivedLock) {
+            if (matrixModCount == modCount) return adjacencyMatrix;
+            AdjacencyStore adj = store();
+            double[][] matrix = new double[numVertices][numVertices];
+            for (int i = 0; i < numVertices; i++) {
+                Arrays.fill(matrix[i], Double.POSITIVE_INFINITY);
+                for (long e = adj.edgeStart(i), end = adj.edgeEnd(i); e < end; e++) {
+                    matrix[i][adj.target(e)] = adj.weight(e);
+                }
+            }
+            adjacencyMatrix = matrix;
+            matrixModCount = modCount;
+            return matrix;
+        }
+    }
+
+    /** Name of the vertex at the index, or null if that vertex was removed. */
+    public String getVertexName(int index) {
+        return vertices.name(index);
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no such vertex
+     */
+    public int getVertexIndex(String name) {
+        return requireVertex(name);
+    }
+
+    /**
+     * Number of vertex indices in use, including those of removed vertices.
+     * Valid indices are 0 to getNumVertices() - 1.
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    /**
+     * Read-only view of the vertex names that iterates in index order, skipping removed vertices.
+     */
+    public Set<String> getVertexNames() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next < vertices.size() && vertices.isRemoved(next)) next++;
+                        return next < vertices.size();
+                    }
+
+                    @Override
+                    public String next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        return vertices.name(next++);
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && vertices.indexOf((String) o) >= 0;
+            }
+
+            @Override
+            public int size() {
+                return vertices.liveSize();
+            }
+        };
+    }
+
+    public void printAdjacencyList() {
+        System.out.println("\n--- Adjacency List ---");
+        for (int i = 0; i < numVertices; i++) {
+            if (vertices.isRemoved(i)) continue;
+            System.out.print(vertices.name(i) + " -> ");
+            AdjacencyStore adj = store();
+            if (adj.degree(i) == 0) {
+                System.out.print("[No Neighbors]");
+            } else {
+                for (long e = adj.edgeStart(i), end = adj.edgeEnd(i); e < end; e++) {
+                    System.out.print(vertices.name(adj.target(e)) + "(" + adj.weight(e) + ") ");
+                }
+            }
+            System.out.println();
+        }
+    }
+
+    public void printAdjacencyMatrix() {
+        System.out.println("\n--- Adjacency Matrix ---");
+        System.out.print("        ");
+        for (int i = 0; i < numVertices; i++) {
+            if (vertices.isRemoved(i)) continue;
+            System.out.printf("%8s", vertices.name(i));
+        }
+        System.out.println();
+
+        for (int i = 0; i < numVertices; i++) {
+            if (vertices.isRemoved(i)) continue;
+            System.out.printf("%-8s", vertices.name(i));
+            for (int j = 0; j < numVertices; j++) {
+                if (vertices.isRemoved(j)) continue;
+                double val = getEdgeWeight(i, j);
+                if (val == Double.POSITIVE_INFINITY) {
+                    System.out.printf("%8s", "INF");
+                } else {
+                    System.out.printf("%8.1f", val);
+                }
+            }
+            System.out.println();
+        }
+    }
+}
\ No newline at end of file
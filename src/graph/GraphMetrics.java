@@ -0,0 +1,102 @@
+package graph;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals for graph operations, attached with {@link Graph#setMetrics(GraphMetrics)}.
+ * Safe to share between graphs and threads. A graph without metrics, listener or an
+ * active JFR recording runs its plain, uninstrumented loops.
+ */
+public class GraphMetrics {
+
+    public enum Operation { BFS, DFS, ADD_EDGE }
+
+    private final Counters[] counters = new Counters[Operation.values().length];
+
+    public GraphMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counters();
+        }
+    }
+
+    void record(Operation op, long vertices, long edges, int peakFrontier, long nanos) {
+        Counters c = counters[op.ordinal()];
+        c.calls.increment();
+        c.vertices.add(vertices);
+        c.edges.add(edges);
+        c.nanos.add(nanos);
+        c.peakFrontier.accumulate(peakFrontier);
+    }
+
+    /** Records a call answered from the query cache: it returns vertices but scans no edges. */
+    void recordCacheHit(Operation op, long vertices, long nanos) {
+        record(op, vertices, 0, 0, nanos);
+        counters[op.ordinal()].cacheHits.increment();
+    }
+
+    /** Number of completed calls of the operation, including those answered from the query cache. */
+    public long calls(Operation op) {
+        return counters[op.ordinal()].calls.sum();
+    }
+
+    /** Calls of the operation answered from the query cache without traversing. */
+    public long cacheHits(Operation op) {
+        return counters[op.ordinal()].cacheHits.sum();
+    }
+
+    /** Vertices returned by all calls of the operation. */
+    public long verticesVisited(Operation op) {
+        return counters[op.ordinal()].vertices.sum();
+    }
+
+    /** Adjacency entries read by all calls of the operation. */
+    public long edgesScanned(Operation op) {
+        return counters[op.ordinal()].edges.sum();
+    }
+
+    /** Largest queue (BFS) or stack (DFS) size seen by any call. */
+    public long peakFrontier(Operation op) {
+        return counters[op.ordinal()].peakFrontier.get();
+    }
+
+    /** Total wall time of all calls, in nanoseconds. */
+    public long totalNanos(Operation op) {
+        return counters[op.ordinal()].nanos.sum();
+    }
+
+    public void reset() {
+        for (Counters c : counters) {
+            c.calls.reset();
+            c.cacheHits.reset();
+            c.vertices.reset();
+            c.edges.reset();
+            c.nanos.reset();
+            c.peakFrontier.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GraphMetrics{");
+        for (Operation op : Operation.values()) {
+            if (op.ordinal() > 0) sb.append(", ");
+            sb.append(op).append(": calls=").append(calls(op))
+              .append(" cacheHits=").append(cacheHits(op))
+              .append(" vertices=").append(verticesVisited(op))
+              .append(" edges=").append(edgesScanned(op))
+              .append(" peakFrontier=").append(peakFrontier(op))
+              .append(" ms=").append(totalNanos(op) / 1_000_000);
+        }
+        return sb.append('}').toString();
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder cacheHits = new LongAdder();
+        final LongAdder vertices = new LongAdder();
+        final LongAdder edges = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator peakFrontier = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -0,0 +1,42 @@
+package graph;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event committed for each bfs/dfs while a recording has graph.Query enabled.
+ */
+@Name("graph.Query")
+@Label("Graph Query")
+@Category("Graph")
+@Description("A BFS or DFS over a Graph")
+final class GraphQueryEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(GraphQueryEvent.class);
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Start Vertex")
+    int start;
+
+    @Label("Vertices Visited")
+    int verticesVisited;
+
+    @Label("Edges Scanned")
+    long edgesScanned;
+
+    @Label("Peak Frontier")
+    int peakFrontier;
+
+    @Label("Cache Hit")
+    @Description("Answered from the query cache without traversing")
+    boolean cacheHit;
+
+    /** Whether a running recording has the event enabled; checked before allocating one. */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
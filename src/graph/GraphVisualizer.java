@@ -0,0 +1,1182 @@
+package graph;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * GUI for visualizing graph operations.
+ * Updated to work with the improved Graph class (Infinity checks, DFS support).
+ */
+public class GraphVisualizer extends JFrame {
+    private Graph graph;
+    private GraphPanel graphPanel;
+    private JTextArea outputArea;
+    private JComboBox<String> startVertexCombo;
+    private JComboBox<String> endVertexCombo;
+    private JCheckBox directedCheckBox;
+    private Map<String, Point> vertexPositions;
+    private SwingWorker<Void, double[][]> layoutWorker;
+
+    // Traversals, listings and path searches run here so the EDT only paints their results
+    private final QueryExecutor queries = new QueryExecutor(2);
+    private QueryExecutor.Task<?, ?> runningQuery;
+    private int queryGeneration;
+
+    // Non-modal window for the adjacency list and matrix tables
+    private JDialog tableWindow;
+
+    // Colors for visualization
+    private static final Color DEFAULT_VERTEX_COLOR = new Color(52, 152, 219); // Blue
+    private static final Color VISITED_VERTEX_COLOR = new Color(46, 204, 113); // Green
+    private static final Color CURRENT_VERTEX_COLOR = new Color(231, 76, 60);  // Red
+    private static final Color DEFAULT_EDGE_COLOR = new Color(149, 165, 166);  // Gray
+    private static final Color PATH_EDGE_COLOR = new Color(231, 76, 60);      // Red
+
+    // Drawing resources shared by every repaint
+    private static final int VERTEX_RADIUS = 12;
+    private static final Font WEIGHT_FONT = new Font("Arial", Font.PLAIN, 10);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final BasicStroke EDGE_STROKE = new BasicStroke(2);
+    private static final BasicStroke PATH_STROKE = new BasicStroke(4);
+
+    // Viewport limits and level of detail
+    private static final double ZOOM_STEP = 1.15;
+    private static final double MIN_ZOOM = 1e-4;
+    private static final double MAX_ZOOM = 64;
+    private static final double LABEL_MIN_ZOOM = 0.5;
+    private static final int DETAIL_VERTEX_LIMIT = 4000;  // more than this in view draws the heatmap
+    private static final int MAX_EDGES_PER_FRAME = 200_000;
+    private static final int HEAT_TILE = 4;
+    private static final Color[] HEAT_PALETTE = heatPalette(64);
+
+    // Force-directed layout: iteration cap and time between displayed frames
+    private static final int LAYOUT_MAX_ITERATIONS = 500;
+    private static final long LAYOUT_FRAME_NANOS = 50_000_000L;
+
+    // Background queries: timeout, output cap, and traversal animation on small graphs
+    private static final long QUERY_TIMEOUT_MILLIS = 30_000;
+    private static final int OUTPUT_LINE_LIMIT = 2000;
+    private static final int ANIMATED_VERTEX_LIMIT = 100;
+    private static final long ANIMATION_DELAY_MILLIS = 600;
+    private static final int REPAINT_VERTEX_LIMIT = 64;
+
+    // Adjacency matrix table: target vertices per column window, and the name column's width
+    private static final int MATRIX_COLUMN_WINDOW = 200;
+    private static final int MATRIX_NAME_WIDTH = 120;
+
+    private static Color[] heatPalette(int steps) {
+        Color[] palette = new Color[steps];
+        for (int i = 0; i < steps; i++) {
+            float t = (i + 1) / (float) steps;
+            // Light blue to the vertex blue, getting more opaque with density
+            int red = (int) (190 + (DEFAULT_VERTEX_COLOR.getRed() - 190) * t);
+            int green = (int) (220 + (DEFAULT_VERTEX_COLOR.getGreen() - 220) * t);
+            int blue = (int) (245 + (DEFAULT_VERTEX_COLOR.getBlue() - 245) * t);
+            palette[i] = new Color(red, green, blue, (int) (60 + 195 * t));
+        }
+        return palette;
+    }
+
+    public GraphVisualizer() {
+        setTitle("Graph Algorithm Visualizer");
+        setSize(1250, 850); // Slightly wider for the extra button
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+
+        // Initialize vertex positions for the campus map
+        initializeVertexPositions();
+
+        // Create control panel
+        JPanel controlPanel = createControlPanel();
+        add(controlPanel, BorderLayout.NORTH);
+
+        // Create graph panel
+        graphPanel = new GraphPanel();
+        add(graphPanel, BorderLayout.CENTER);
+
+        // Create output panel
+        JPanel outputPanel = createOutputPanel();
+        add(outputPanel, BorderLayout.SOUTH);
+
+        // Initialize graph
+        initializeGraph(false);
+
+        // Force everything to render
+        validate();
+        repaint();
+    }
+
+    /**
+     * Initialize positions for each vertex (campus layout)
+     */
+    private void initializeVertexPositions() {
+        vertexPositions = new HashMap<>();
+
+        // Approximate positions based on the campus map image
+        vertexPositions.put("Gate", new Point(400, 50));
+        vertexPositions.put("Student Parking", new Point(200, 120));
+        vertexPositions.put("Senior Parking", new Point(600, 120));
+        vertexPositions.put("Circle", new Point(400, 200));
+        vertexPositions.put("Admissions", new Point(550, 250));
+        vertexPositions.put("Business Office", new Point(700, 250));
+        vertexPositions.put("Athletics", new Point(100, 300));
+        vertexPositions.put("PA", new Point(250, 350));
+        vertexPositions.put("Cohen", new Point(400, 380));
+        vertexPositions.put("Fountain", new Point(550, 350));
+        vertexPositions.put("US 100", new Point(700, 350));
+        vertexPositions.put("Faculty Parking", new Point(900, 350));
+        vertexPositions.put("Library", new Point(600, 450));
+        vertexPositions.put("CHH", new Point(750, 500));
+        vertexPositions.put("VA", new Point(850, 550));
+        vertexPositions.put("Mariani", new Point(400, 550));
+        vertexPositions.put("Science", new Point(250, 650));
+        vertexPositions.put("BD", new Point(400, 700));
+        vertexPositions.put("GD", new Point(850, 700));
+    }
+
+    /**
+     * Create the control panel with buttons and options
+     */
+    private JPanel createControlPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 10));
+        panel.setBackground(new Color(44, 62, 80));
+        panel.setPreferredSize(new Dimension(1200, 100));
+
+        // Directed graph checkbox
+        directedCheckBox = new JCheckBox("Directed Graph", false);
+        directedCheckBox.setForeground(Color.WHITE);
+        directedCheckBox.setBackground(new Color(44, 62, 80));
+        directedCheckBox.setFont(new Font("Arial", Font.BOLD, 14));
+        directedCheckBox.setFocusPainted(false);
+        directedCheckBox.addActionListener(e -> initializeGraph(directedCheckBox.isSelected()));
+        panel.add(directedCheckBox);
+
+        panel.add(Box.createHorizontalStrut(20));
+
+        // Start vertex selector
+        JLabel startLabel = new JLabel("Start Vertex:");
+        startLabel.setForeground(Color.WHITE);
+        startLabel.setFont(new Font("Arial", Font.BOLD, 14));
+        panel.add(startLabel);
+
+        startVertexCombo = new JComboBox<>();
+        startVertexCombo.setPreferredSize(new Dimension(150, 30));
+        panel.add(startVertexCombo);
+
+        // End vertex selector for shortest paths
+        JLabel endLabel = new JLabel("To:");
+        endLabel.setForeground(Color.WHITE);
+        endLabel.setFont(new Font("Arial", Font.BOLD, 14));
+        panel.add(endLabel);
+
+        endVertexCombo = new JComboBox<>();
+        endVertexCombo.setPreferredSize(new Dimension(150, 30));
+        panel.add(endVertexCombo);
+
+        panel.add(Box.createHorizontalStrut(10));
+
+        // BFS Button
+        JButton bfsButton = createStyledButton("Run BFS", new Color(52, 152, 219));
+        bfsButton.addActionListener(e -> runBFS());
+        panel.add(bfsButton);
+
+        // DFS Button (NEW)
+        JButton dfsButton = createStyledButton("Run DFS", new Color(46, 204, 113));
+        dfsButton.addActionListener(e -> runDFS());
+        panel.add(dfsButton);
+
+        // Shortest Path Button
+        JButton pathButton = createStyledButton("Shortest Path", new Color(22, 160, 133));
+        pathButton.addActionListener(e -> runShortestPath());
+        panel.add(pathButton);
+
+        // Show Adjacency List Button
+        JButton adjListButton = createStyledButton("Show Adj List", new Color(155, 89, 182));
+        adjListButton.addActionListener(e -> showAdjacencyList());
+        panel.add(adjListButton);
+
+        // Show Adjacency Matrix Button
+        JButton adjMatrixButton = createStyledButton("Show Matrix", new Color(230, 126, 34));
+        adjMatrixButton.addActionListener(e -> showAdjacencyMatrix());
+        panel.add(adjMatrixButton);
+
+        // Auto Layout Button
+        JButton layoutButton = createStyledButton("Auto Layout", new Color(52, 73, 94));
+        layoutButton.addActionListener(e -> runLayout());
+        panel.add(layoutButton);
+
+        // Cancel Button
+        JButton cancelButton = createStyledButton("Cancel", new Color(127, 140, 141));
+        cancelButton.addActionListener(e -> cancelQuery());
+        panel.add(cancelButton);
+
+        // Reset Button
+        JButton resetButton = createStyledButton("Reset", new Color(231, 76, 60));
+        resetButton.addActionListener(e -> reset());
+        panel.add(resetButton);
+
+        return panel;
+    }
+
+    private JButton createStyledButton(String text, Color bg) {
+        JButton btn = new JButton(text);
+        btn.setBackground(bg);
+        btn.setForeground(Color.WHITE);
+        btn.setFont(new Font("Arial", Font.BOLD, 12));
+        btn.setFocusPainted(false);
+        btn.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        return btn;
+    }
+
+    /**
+     * Create the output panel for displaying results
+     */
+    private JPanel createOutputPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setPreferredSize(new Dimension(1200, 150));
+
+        outputArea = new JTextArea();
+        outputArea.setEditable(false);
+        outputArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        outputArea.setBackground(new Color(39, 55, 70));
+        outputArea.setForeground(Color.WHITE);
+
+        JScrollPane scrollPane = new JScrollPane(outputArea);
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        return panel;
+    }
+
+    /**
+     * Initialize or reinitialize the graph with edges
+     */
+    private void initializeGraph(boolean directed) {
+        List<String> vertices = Arrays.asList(
+                "Gate", "Student Parking", "Senior Parking", "Circle", "Admissions",
+                "Business Office", "Athletics", "PA", "Cohen", "Fountain", "US 100",
+                "Faculty Parking", "Library", "CHH", "VA", "Mariani", "Science", "BD", "GD"
+        );
+
+        stopQuery();
+        stopLayout();
+        closeTableWindow();
+        try {
+            graph = new Graph(vertices, directed);
+
+            String[][] edges = {
+                    {"Gate", "Student Parking"}, {"Gate", "Circle"}, {"Gate", "Senior Parking"},
+                    {"Student Parking", "Circle"}, {"Student Parking", "Athletics"}, {"Student Parking", "PA"},
+                    {"Senior Parking", "Circle"}, {"Senior Parking", "Admissions"}, {"Senior Parking", "Business Office"},
+                    {"Circle", "Admissions"}, {"Circle", "PA"}, {"Circle", "Cohen"},
+                    {"Admissions", "Fountain"}, {"Admissions", "Business Office"},
+                    {"Business Office", "US 100"}, {"Business Office", "Fountain"},
+                    {"Athletics", "PA"}, {"Athletics", "Science"},
+                    {"PA", "Cohen"}, {"PA", "Mariani"}, {"PA", "Science"},
+                    {"Cohen", "Mariani"}, {"Cohen", "Fountain"}, {"Cohen", "Library"},
+                    {"Fountain", "US 100"}, {"Fountain", "Library"},
+                    {"US 100", "Library"}, {"US 100", "Faculty Parking"}, {"US 100", "CHH"},
+                    {"Faculty Parking", "VA"}, {"Faculty Parking", "CHH"},
+                    {"Library", "CHH"}, {"Library", "Mariani"},
+                    {"CHH", "VA"}, {"CHH", "GD"},
+                    {"VA", "GD"}, {"VA", "Mariani"},
+                    {"Mariani", "Science"}, {"Mariani", "BD"}, {"Mariani", "GD"},
+                    {"Science", "BD"}, {"BD", "GD"}
+            };
+
+            Random rand = new Random(42);
+            for (String[] edge : edges) {
+                double weight = 1.0 + rand.nextInt(8);
+                graph.addEdge(edge[0], edge[1], weight);
+            }
+
+            applyLayout();
+            prepareEdges();
+
+            // Update start vertex combo box
+            startVertexCombo.removeAllItems();
+            endVertexCombo.removeAllItems();
+            for (String vertex : vertices) {
+                startVertexCombo.addItem(vertex);
+                endVertexCombo.addItem(vertex);
+            }
+
+            reset();
+            outputArea.setText("Graph loaded successfully!\n");
+        } catch (Exception e) {
+            outputArea.setText("?? Graph implementation not complete!\n");
+            outputArea.append("Complete the TODOs in Graph.java to enable visualization.\n");
+
+            // Still populate the combo box with vertices so UI doesn't look broken
+            startVertexCombo.removeAllItems();
+            endVertexCombo.removeAllItems();
+            for (String vertex : vertices) {
+                startVertexCombo.addItem(vertex);
+                endVertexCombo.addItem(vertex);
+            }
+        }
+    }
+
+    /**
+     * Hand the campus positions to the panel as per-index coordinates
+     */
+    private void applyLayout() {
+        int n = graph.getNumVertices();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point p = vertexPositions.get(graph.getVertexName(i));
+            xs[i] = p == null ? Double.NaN : p.x;
+            ys[i] = p == null ? Double.NaN : p.y;
+        }
+        graphPanel.setVertexLayout(xs, ys);
+    }
+
+    /**
+     * Build the stores the edge layer is drawn from in the background; for a directed graph
+     * that includes the O(E) transpose. The panel shows a placeholder until they arrive.
+     */
+    private void prepareEdges() {
+        Graph target = graph;
+        runInBackground(progress -> {
+            freeze(target);
+            return new AdjacencyStore[]{target.store(), target.isDirected() ? target.reverseStore() : null};
+        }, stores -> graphPanel.setEdgeStores(target, stores[0], stores[1]));
+    }
+
+    /**
+     * Compute a force-directed layout in the background, showing frames as it converges.
+     * The layout is constructed there too, since that freezes the graph and, for directed
+     * graphs, builds its O(E) transpose.
+     */
+    private void runLayout() {
+        if (graph == null) return;
+        stopLayout();
+
+        Graph target = graph;
+        outputArea.setText("Running force-directed layout...\n");
+        SwingWorker<Void, double[][]> worker = new SwingWorker<>() {
+            private ForceLayout layout;
+
+            @Override
+            protected Void doInBackground() {
+                freeze(target);
+                layout = new ForceLayout(target);
+                long lastFrame = 0;
+                while (!isCancelled() && !layout.isConverged() && layout.getIteration() < LAYOUT_MAX_ITERATIONS) {
+                    layout.step();
+                    long now = System.nanoTime();
+                    if (now - lastFrame >= LAYOUT_FRAME_NANOS) {
+                        publish(new double[][]{layout.getX(), layout.getY()});
+                        lastFrame = now;
+                    }
+                }
+                publish(new double[][]{layout.getX(), layout.getY()});
+                return null;
+            }
+
+            @Override
+            protected void process(List<double[][]> frames) {
+                if (isCancelled()) return;
+                double[][] latest = frames.get(frames.size() - 1);
+                graphPanel.setVertexLayout(latest[0], latest[1]);
+            }
+
+            @Override
+            protected void done() {
+                if (!isCancelled() && layout != null) {
+                    outputArea.append("Layout finished after " + layout.getIteration() + " iterations.\n");
+                }
+            }
+        };
+        layoutWorker = worker;
+        worker.execute();
+    }
+
+    /**
+     * Cancel a running layout, keeping the last frame shown
+     */
+    private void stopLayout() {
+        if (layoutWorker != null) {
+            layoutWorker.cancel(false);
+            layoutWorker = null;
+        }
+    }
+
+    private void runBFS() {
+        runTraversal(true);
+    }
+
+    private void runDFS() {
+        runTraversal(false);
+    }
+
+    /**
+     * Helper to run BFS or DFS in the background. Small graphs are animated one vertex per
+     * step; larger ones stream visited vertices to the panel in batches as fast as they come.
+     */
+    private void runTraversal(boolean isBFS) {
+        String startVertex = (String) startVertexCombo.getSelectedItem();
+        if (startVertex == null || graph == null) return;
+
+        String algName = isBFS ? "BFS" : "DFS";
+        Traversal.Order traversalOrder = isBFS ? Traversal.Order.BFS : Traversal.Order.DFS;
+        Graph target = graph;
+        int start = target.getVertexIndex(startVertex);
+        boolean animate = target.getNumVertices() <= ANIMATED_VERTEX_LIMIT;
+
+        reset(); // Clear previous colors
+        outputArea.setText("Running " + algName + " from " + startVertex + "...\n");
+        List<String> order = new ArrayList<>();
+        startQuery(progress -> {
+            int visited = 0;
+            try (Traversal traversal = target.traverse(start, traversalOrder)) {
+                while (traversal.hasNext() && !progress.isCancelled()) {
+                    if (animate) Thread.sleep(ANIMATION_DELAY_MILLIS);
+                    progress.publish(traversal.nextInt());
+                    visited++;
+                }
+            }
+            return visited;
+        }, new QueryExecutor.Callback<Integer, Integer>() {
+            @Override
+            public void progress(List<Integer> vertices) {
+                graphPanel.visitVertices(vertices);
+                StringBuilder lines = new StringBuilder();
+                for (int v : vertices) {
+                    if (order.size() < OUTPUT_LINE_LIMIT) {
+                        order.add(target.getVertexName(v));
+                        lines.append(order.size()).append(". ").append(target.getVertexName(v)).append('\n');
+                    }
+                }
+                outputArea.append(lines.toString());
+            }
+
+            @Override
+            public void finished(Integer visited) {
+                outputArea.append("\n" + algName + " Complete!\n");
+                if (visited <= OUTPUT_LINE_LIMIT) {
+                    outputArea.append("Path: " + String.join(" -> ", order) + "\n");
+                } else {
+                    outputArea.append("Visited " + visited + " vertices; the first " + OUTPUT_LINE_LIMIT + " are listed.\n");
+                }
+            }
+
+            @Override
+            public void failed(Throwable error) {
+                outputArea.setText("? Error running algorithm!\n");
+                outputArea.append("Exception: " + error.getMessage() + "\n");
+                error.printStackTrace();
+            }
+        }, animate ? 0 : QUERY_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Run a query off the EDT, replacing any query still running. The query's thread freezes
+     * the graph before running it, so pending edges are merged off the EDT and the query only
+     * ever reads. Callbacks from a replaced query are dropped.
+     */
+    private <T, P> void startQuery(QueryExecutor.Query<T, P> query, QueryExecutor.Callback<T, P> callback,
+                                   long timeoutMillis) {
+        stopQuery();
+        Graph target = graph;
+        QueryExecutor.Query<T, P> frozen = progress -> {
+            freeze(target);
+            return query.run(progress);
+        };
+        int generation = queryGeneration;
+        QueryExecutor.Callback<T, P> reporting = new QueryExecutor.Callback<>() {
+            @Override
+            public void progress(List<P> items) {
+                if (generation == queryGeneration) callback.progress(items);
+            }
+
+            @Override
+            public void finished(T result) {
+                if (generation == queryGeneration) callback.finished(result);
+            }
+
+            @Override
+            public void failed(Throwable error) {
+                if (generation == queryGeneration) callback.failed(error);
+            }
+
+            @Override
+            public void cancelled(boolean timedOut) {
+                if (generation != queryGeneration) return;
+                outputArea.append(timedOut
+                        ? "\nStopped after " + timeoutMillis / 1000 + " s.\n"
+                        : "\nCancelled.\n");
+            }
+        };
+        try {
+            runningQuery = queries.submit(frozen, reporting, timeoutMillis);
+        } catch (RejectedExecutionException e) {
+            outputArea.append("Too many queries are waiting; try again shortly.\n");
+        }
+    }
+
+    /**
+     * Run work on the query pool without replacing the running query, and hand its result
+     * to the EDT unless the graph has been replaced in the meantime
+     */
+    private <T> void runInBackground(QueryExecutor.Query<T, Void> work, java.util.function.Consumer<T> then) {
+        Graph target = graph;
+        try {
+            queries.submit(work, new QueryExecutor.Callback<T, Void>() {
+                @Override
+                public void finished(T result) {
+                    if (graph == target) then.accept(result);
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                    if (graph == target) outputArea.append("Exception: " + error.getMessage() + "\n");
+                }
+            }, 0);
+        } catch (RejectedExecutionException e) {
+            outputArea.append("Too many queries are waiting; try again shortly.\n");
+        }
+    }
+
+    /**
+     * Merge the graph's pending edges on the calling background thread. Background tasks can
+     * overlap, so they take turns on the graph's monitor; once frozen the graph is only read,
+     * and the EDT reads it only after a task has frozen it.
+     */
+    private static void freeze(Graph target) {
+        synchronized (target) {
+            target.freeze();
+        }
+    }
+
+    /**
+     * Cancel the running query, if any, and say so in the output
+     */
+    private void cancelQuery() {
+        if (runningQuery != null && !runningQuery.isDone()) {
+            runningQuery.cancel();
+        }
+        runningQuery = null;
+    }
+
+    /**
+     * Drop the running query, if any, without reporting it
+     */
+    private void stopQuery() {
+        queryGeneration++;
+        cancelQuery();
+    }
+
+    /**
+     * Run A* between the two selected vertices in the background, guided by the on-screen
+     * positions, and highlight the route
+     */
+    private void runShortestPath() {
+        String startVertex = (String) startVertexCombo.getSelectedItem();
+        String endVertex = (String) endVertexCombo.getSelectedItem();
+        if (startVertex == null || endVertex == null || graph == null) return;
+
+        Graph target = graph;
+        double[][] coordinates = graphPanel.getVertexLayout();
+        reset();
+        outputArea.setText("Searching for a path from " + startVertex + " to " + endVertex + "...\n");
+        startQuery(progress -> {
+            Heuristic heuristic = Heuristic.euclidean(target, coordinates[0], coordinates[1]);
+            return target.aStar(startVertex, endVertex, heuristic);
+        }, new QueryExecutor.Callback<Route, Void>() {
+            @Override
+            public void finished(Route route) {
+                if (!route.hasPath()) {
+                    outputArea.setText("No path from " + startVertex + " to " + endVertex + ".\n");
+                    return;
+                }
+
+                List<String> path = new ArrayList<>();
+                for (int v : route.getPath()) path.add(target.getVertexName(v));
+                graphPanel.setHighlightedPath(path);
+                outputArea.setText("Shortest path from " + startVertex + " to " + endVertex + "\n");
+                outputArea.append("Path: " + String.join(" -> ", path) + "\n");
+                outputArea.append(String.format("Total weight: %.1f (%d hops)\n", route.getCost(), route.getHops()));
+                outputArea.append("A* settled " + route.getSettledCount() + " of " + target.getVertexCount() + " vertices\n");
+            }
+
+            @Override
+            public void failed(Throwable error) {
+                outputArea.setText("? Error computing shortest path!\n");
+                outputArea.append("Exception: " + error.getMessage() + "\n");
+            }
+        }, QUERY_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Show the adjacency list as a table once the graph is frozen in the background
+     */
+    private void showAdjacencyList() {
+        if (graph == null) return;
+        Graph target = graph;
+        outputArea.setText("Preparing the adjacency list...\n");
+        runInBackground(progress -> {
+            freeze(target);
+            return null;
+        }, ignored -> openAdjacencyList());
+    }
+
+    /**
+     * Open the adjacency list table; only the rows in view are ever formatted
+     */
+    private void openAdjacencyList() {
+        JTable table = new JTable(new AdjacencyListTableModel(graph));
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_LAST_COLUMN);
+        table.getColumnModel().getColumn(0).setPreferredWidth(60);
+        table.getColumnModel().getColumn(1).setPreferredWidth(150);
+        table.getColumnModel().getColumn(2).setPreferredWidth(60);
+        table.getColumnModel().getColumn(3).setPreferredWidth(630);
+        showTable("Adjacency List", table, null);
+        outputArea.setText("Adjacency list of " + graph.getVertexCount() + " vertices opened in its own window.\n");
+    }
+
+    /**
+     * Show the adjacency matrix as a table once the graph is frozen in the background
+     */
+    private void showAdjacencyMatrix() {
+        if (graph == null) return;
+        Graph target = graph;
+        outputArea.setText("Preparing the adjacency matrix...\n");
+        runInBackground(progress -> {
+            freeze(target);
+            return null;
+        }, ignored -> openAdjacencyMatrix());
+    }
+
+    /**
+     * Open the adjacency matrix as a table whose cells are looked up as they are painted.
+     * Columns are shown a window at a time; a spinner moves the window.
+     */
+    private void openAdjacencyMatrix() {
+        int n = graph.getNumVertices();
+        AdjacencyMatrixTableModel model = new AdjacencyMatrixTableModel(graph, MATRIX_COLUMN_WINDOW);
+        JTable table = new JTable(model) {
+            @Override
+            public void createDefaultColumnsFromModel() {
+                // Runs again whenever the column window moves
+                super.createDefaultColumnsFromModel();
+                if (getColumnCount() > 0) getColumnModel().getColumn(0).setPreferredWidth(MATRIX_NAME_WIDTH);
+            }
+        };
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        table.setDefaultRenderer(Double.class, new DefaultTableCellRenderer() {
+            @Override
+            protected void setValue(Object value) {
+                double weight = (Double) value;
+                setText(weight == Double.POSITIVE_INFINITY ? "INF" : String.format("%.1f", weight));
+            }
+        });
+
+        JSpinner firstColumn = new JSpinner(new SpinnerNumberModel(0, 0, Math.max(0, n - 1), MATRIX_COLUMN_WINDOW));
+        firstColumn.addChangeListener(e -> model.setFirstColumn((Integer) firstColumn.getValue()));
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("Columns from vertex:"));
+        controls.add(firstColumn);
+        controls.add(new JLabel(MATRIX_COLUMN_WINDOW + " at a time, " + n + " in total"));
+
+        showTable("Adjacency Matrix", table, controls);
+        outputArea.setText("Adjacency matrix of " + n + " x " + n + " cells opened in its own window.\n");
+    }
+
+    /**
+     * Put a table in the table window, replacing what it showed before
+     */
+    private void showTable(String title, JTable table, JComponent controls) {
+        if (tableWindow == null) {
+            tableWindow = new JDialog(this, false);
+            tableWindow.setSize(900, 600);
+            tableWindow.setLocationRelativeTo(this);
+        }
+        table.setFillsViewportHeight(true);
+        JPanel content = new JPanel(new BorderLayout());
+        if (controls != null) content.add(controls, BorderLayout.NORTH);
+        content.add(new JScrollPane(table), BorderLayout.CENTER);
+        tableWindow.setTitle(title);
+        tableWindow.setContentPane(content);
+        tableWindow.revalidate();
+        tableWindow.setVisible(true);
+    }
+
+    /**
+     * Close the table window; its models read the graph being replaced
+     */
+    private void closeTableWindow() {
+        if (tableWindow != null) {
+            tableWindow.dispose();
+            tableWindow = null;
+        }
+    }
+
+    private void reset() {
+        stopQuery();
+        graphPanel.reset();
+        outputArea.setText("Ready. Select a starting vertex and choose an operation.\n");
+    }
+
+    /**
+     * Inner class for drawing the graph.
+     * Vertices are placed by index from a layout and culled against the viewport through a
+     * spatial grid. Edges and weight labels for the current viewport are rendered once into a
+     * cached image; repaints during an animation only cover the vertices whose color changed.
+     * When the viewport holds too many vertices to draw, a density heatmap is drawn instead.
+     */
+    class GraphPanel extends JPanel {
+        private final BitSet visitedVertices = new BitSet();
+        private int currentVertex = -1;
+        private final Set<Long> pathEdges = new HashSet<>();
+
+        // Vertex positions in world coordinates, indexed by vertex
+        private SpatialGrid grid;
+        private boolean fitPending;
+
+        // Viewport: screen = (world - origin) * zoom
+        private double zoom = 1.0;
+        private double originX;
+        private double originY;
+
+        // Edge layer, valid while it matches the graph, panel size and display scale it was drawn for.
+        // Cleared whenever the viewport or highlighted path changes.
+        private java.awt.image.BufferedImage edgeLayer;
+        private Graph edgeLayerGraph;
+        private double edgeLayerScale;
+
+        // Forward and (for directed graphs) reverse stores of edgeStoresGraph, built off the EDT
+        private Graph edgeStoresGraph;
+        private AdjacencyStore forwardEdges;
+        private AdjacencyStore backwardEdges;
+
+        public GraphPanel() {
+            setBackground(new Color(245, 245, 245));
+
+            MouseAdapter navigation = new MouseAdapter() {
+                private Point dragFrom;
+
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    dragFrom = e.getPoint();
+                }
+
+                @Override
+                public void mouseDragged(MouseEvent e) {
+                    if (dragFrom == null) return;
+                    originX -= (e.getX() - dragFrom.x) / zoom;
+                    originY -= (e.getY() - dragFrom.y) / zoom;
+                    dragFrom = e.getPoint();
+                    viewportChanged();
+                }
+
+                @Override
+                public void mouseReleased(MouseEvent e) {
+                    dragFrom = null;
+                }
+
+                @Override
+                public void mouseWheelMoved(MouseWheelEvent e) {
+                    zoomAt(e.getX(), e.getY(), Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()));
+                }
+
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    if (e.getClickCount() == 2) fitToView();
+                }
+            };
+            addMouseListener(navigation);
+            addMouseMotionListener(navigation);
+            addMouseWheelListener(navigation);
+        }
+
+        /**
+         * Use new vertex coordinates; NaN leaves a vertex unplaced. The view is fitted to the
+         * layout on the next paint unless the layout already fits at the current zoom.
+         */
+        public void setVertexLayout(double[] xs, double[] ys) {
+            grid = new SpatialGrid(xs, ys);
+            fitPending = true;
+            invalidateEdges();
+            repaint();
+        }
+
+        /** Current world coordinates as {xs, ys}, indexed by vertex; NaN where unplaced. */
+        public double[][] getVertexLayout() {
+            int n = graph.getNumVertices();
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int v = 0; v < n; v++) {
+                xs[v] = grid == null ? Double.NaN : grid.x(v);
+                ys[v] = grid == null ? Double.NaN : grid.y(v);
+            }
+            return new double[][]{xs, ys};
+        }
+
+        /** Draw edges from these stores of the graph; until they are set, paint shows a placeholder. */
+        public void setEdgeStores(Graph owner, AdjacencyStore forward, AdjacencyStore backward) {
+            edgeStoresGraph = owner;
+            forwardEdges = forward;
+            backwardEdges = backward;
+            invalidateEdges();
+            repaint();
+        }
+
+        public void setHighlightedPath(List<String> path) {
+            pathEdges.clear();
+            visitedVertices.clear();
+            int previous = -1;
+            for (String vertex : path) {
+                int v = graph.getVertexIndex(vertex);
+                visitedVertices.set(v);
+                if (previous >= 0) pathEdges.add(edgeKey(previous, v));
+                previous = v;
+            }
+            currentVertex = previous;
+            invalidateEdges();
+            repaint();
+        }
+
+        private long edgeKey(int from, int to) {
+            return ((long) from << 32) | (to & 0xFFFFFFFFL);
+        }
+
+        private boolean isPathEdge(int from, int to) {
+            return pathEdges.contains(edgeKey(from, to))
+                    || (!graph.isDirected() && pathEdges.contains(edgeKey(to, from)));
+        }
+
+        /** Mark a batch of vertices visited; the last one becomes the current vertex. */
+        public void visitVertices(List<Integer> batch) {
+            if (batch.isEmpty()) return;
+            int previous = currentVertex;
+            for (int v : batch) visitedVertices.set(v);
+            currentVertex = batch.get(batch.size() - 1);
+            if (batch.size() > REPAINT_VERTEX_LIMIT) {
+                repaint();
+                return;
+            }
+            if (previous >= 0) repaintVertex(previous);
+            for (int v : batch) repaintVertex(v);
+        }
+
+        public void reset() {
+            visitedVertices.clear();
+            if (!pathEdges.isEmpty()) {
+                pathEdges.clear();
+                invalidateEdges();
+            }
+            currentVertex = -1;
+            repaint();
+        }
+
+        /** Drop the cached edge layer so the next paint redraws it. */
+        public void invalidateEdges() {
+            edgeLayer = null;
+        }
+
+        /** Zoom and center so the whole layout is visible. */
+        public void fitToView() {
+            fitPending = false;
+            if (grid == null || getWidth() <= 0 || getHeight() <= 0) return;
+            double[] b = grid.bounds();
+            double margin = 40;
+            double spanX = Math.max(b[2] - b[0], 1e-9);
+            double spanY = Math.max(b[3] - b[1], 1e-9);
+            zoom = clampZoom(Math.min((getWidth() - 2 * margin) / spanX, (getHeight() - 2 * margin) / spanY));
+            originX = (b[0] + b[2]) / 2 - getWidth() / (2 * zoom);
+            originY = (b[1] + b[3]) / 2 - getHeight() / (2 * zoom);
+            viewportChanged();
+        }
+
+        private void zoomAt(int screenX, int screenY, double factor) {
+            double newZoom = clampZoom(zoom * factor);
+            // Keep the world point under the cursor fixed
+            double worldX = originX + screenX / zoom;
+            double worldY = originY + screenY / zoom;
+            zoom = newZoom;
+            originX = worldX - screenX / zoom;
+            originY = worldY - screenY / zoom;
+            viewportChanged();
+        }
+
+        private double clampZoom(double value) {
+            return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, value));
+        }
+
+        private void viewportChanged() {
+            invalidateEdges();
+            repaint();
+        }
+
+        private int screenX(int v) {
+            return (int) Math.round((grid.x(v) - originX) * zoom);
+        }
+
+        private int screenY(int v) {
+            return (int) Math.round((grid.y(v) - originY) * zoom);
+        }
+
+        private void repaintVertex(int vertex) {
+            Rectangle bounds = vertexBounds(vertex);
+            if (bounds != null) repaint(bounds);
+        }
+
+        /** Screen area covered by a vertex's circle and its name label, padded for antialiasing. */
+        private Rectangle vertexBounds(int vertex) {
+            if (grid == null || Double.isNaN(grid.x(vertex))) return null;
+            int x = screenX(vertex), y = screenY(vertex);
+            int r = VERTEX_RADIUS;
+            Rectangle bounds = new Rectangle(x - r, y - r, 2 * r, 2 * r);
+            FontMetrics fm = getFontMetrics(LABEL_FONT);
+            String name = graph.getVertexName(vertex);
+            bounds.add(new Rectangle(x - r, y - r - 5 - fm.getAscent(), fm.stringWidth(name), fm.getHeight()));
+            bounds.grow(2, 2);
+            return bounds;
+        }
+
+        /** Visible world rectangle as {x0, y0, x1, y1}, padded by a vertex radius. */
+        private double[] worldView() {
+            double pad = VERTEX_RADIUS / zoom;
+            return new double[]{originX - pad, originY - pad,
+                    originX + getWidth() / zoom + pad, originY + getHeight() / zoom + pad};
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            if (graph == null || grid == null) return;
+            if (fitPending) {
+                double[] b = grid.bounds();
+                fitPending = false;
+                if (b[0] < originX || b[1] < originY
+                        || (b[2] - originX) * zoom > getWidth() || (b[3] - originY) * zoom > getHeight()) {
+                    fitToView();
+                }
+            }
+
+            double[] view = worldView();
+            boolean detailed = grid.estimateCount(view[0], view[1], view[2], view[3]) <= DETAIL_VERTEX_LIMIT;
+
+            // 1. Edges (or the density heatmap), from the cached layer
+            double scale = g2d.getTransform().getScaleX();
+            if (detailed && edgeStoresGraph != graph) {
+                // The edge stores are still being built in the background
+                g2d.setColor(DEFAULT_EDGE_COLOR);
+                g2d.setFont(LABEL_FONT);
+                g2d.drawString("Loading edges...", 10, 20);
+            } else {
+                if (edgeLayer == null || edgeLayerGraph != graph || edgeLayerScale != scale
+                        || edgeLayer.getWidth() != (int) Math.ceil(getWidth() * scale)
+                        || edgeLayer.getHeight() != (int) Math.ceil(getHeight() * scale)) {
+                    edgeLayer = renderBackground(scale, view, detailed);
+                    edgeLayerGraph = graph;
+                    edgeLayerScale = scale;
+                }
+                if (edgeLayer != null) {
+                    g2d.drawImage(edgeLayer, 0, 0, getWidth(), getHeight(), null);
+                }
+            }
+
+            // 2. Draw Vertices that intersect the repainted area
+            Rectangle clip = g2d.getClipBounds();
+            try {
+                g2d.setFont(LABEL_FONT);
+                if (detailed) {
+                    grid.query(view[0], view[1], view[2], view[3], v -> {
+                        if (clip == null || clip.intersects(vertexBounds(v))) drawVertex(g2d, v);
+                    });
+                } else if (currentVertex >= 0 && grid.contains(currentVertex, view[0], view[1], view[2], view[3])) {
+                    drawVertex(g2d, currentVertex);
+                }
+            } catch (Exception e) { }
+        }
+
+        private void drawVertex(Graphics2D g2d, int vertex) {
+            if (vertex == currentVertex) {
+                g2d.setColor(CURRENT_VERTEX_COLOR);
+            } else if (visitedVertices.get(vertex)) {
+                g2d.setColor(VISITED_VERTEX_COLOR);
+            } else {
+                g2d.setColor(DEFAULT_VERTEX_COLOR);
+            }
+
+            int r = VERTEX_RADIUS;
+            int x = screenX(vertex), y = screenY(vertex);
+            g2d.fillOval(x - r, y - r, 2 * r, 2 * r);
+
+            g2d.setColor(Color.BLACK);
+            g2d.drawOval(x - r, y - r, 2 * r, 2 * r);
+            g2d.drawString(graph.getVertexName(vertex), x - r, y - r - 5);
+        }
+
+        /**
+         * Rasterize the edges in view, or a density heatmap when the view is too crowded,
+         * at the given display scale.
+         */
+        private java.awt.image.BufferedImage renderBackground(double scale, double[] view, boolean detailed) {
+            int width = (int) Math.ceil(getWidth() * scale);
+            int height = (int) Math.ceil(getHeight() * scale);
+            if (width <= 0 || height <= 0) return null;
+
+            java.awt.image.BufferedImage image =
+                    new java.awt.image.BufferedImage(width, height, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = image.createGraphics();
+            try {
+                g2d.scale(scale, scale);
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                if (detailed) {
+                    renderEdges(g2d, view);
+                } else {
+                    renderHeatmap(g2d, view);
+                }
+            } catch (Exception e) {
+                // Swallow exceptions during painting (e.g. partial student implementation)
+            } finally {
+                g2d.dispose();
+            }
+            return image;
+        }
+
+        /**
+         * Draw every edge with at least one endpoint in view, each exactly once.
+         * Out-edges are read from the forward store; for directed graphs, in-edges whose
+         * source is off-screen come from the reverse store. Both were built off the EDT.
+         */
+        private void renderEdges(Graphics2D g2d, double[] view) {
+            AdjacencyStore forward = forwardEdges;
+            AdjacencyStore backward = backwardEdges;
+            boolean labels = zoom >= LABEL_MIN_ZOOM;
+            g2d.setFont(WEIGHT_FONT);
+            int[] drawn = {0};
+
+            grid.query(view[0], view[1], view[2], view[3], u -> {
+                if (drawn[0] >= MAX_EDGES_PER_FRAME) return;
+                for (long e = forward.edgeStart(u), end = forward.edgeEnd(u); e < end; e++) {
+                    int v = forward.target(e);
+                    if (Double.isNaN(grid.x(v))) continue;
+                    // In undirected mode, only draw edge once to avoid text overlap
+                    if (backward == null && v < u && grid.contains(v, view[0], view[1], view[2], view[3])) continue;
+                    drawEdge(g2d, u, v, forward.weight(e), labels);
+                    drawn[0]++;
+                }
+                if (backward != null) {
+                    for (long e = backward.edgeStart(u), end = backward.edgeEnd(u); e < end; e++) {
+                        int w = backward.target(e);
+                        if (Double.isNaN(grid.x(w)) || grid.contains(w, view[0], view[1], view[2], view[3])) continue;
+                        drawEdge(g2d, w, u, backward.weight(e), labels);
+                        drawn[0]++;
+                    }
+                }
+            });
+        }
+
+        private void drawEdge(Graphics2D g2d, int from, int to, double weight, boolean label) {
+            Point start = new Point(screenX(from), screenY(from));
+            Point end = new Point(screenX(to), screenY(to));
+
+            boolean onPath = isPathEdge(from, to);
+            g2d.setColor(onPath ? PATH_EDGE_COLOR : DEFAULT_EDGE_COLOR);
+            g2d.setStroke(onPath ? PATH_STROKE : EDGE_STROKE);
+            g2d.drawLine(start.x, start.y, end.x, end.y);
+
+            if (graph.isDirected()) {
+                drawArrow(g2d, start, end);
+            }
+
+            if (label) {
+                // Draw weight on a small white box for readability
+                int midX = (start.x + end.x) / 2;
+                int midY = (start.y + end.y) / 2;
+                String wStr = String.format("%.0f", weight);
+                g2d.setColor(Color.WHITE);
+                g2d.fillRect(midX, midY-10, 15, 12);
+                g2d.setColor(Color.BLACK);
+                g2d.drawString(wStr, midX+2, midY);
+            }
+        }
+
+        /**
+         * Shade HEAT_TILE-pixel screen tiles by how many vertices fall in them. Work is bounded
+         * by the grid's cell count plus the number of tiles, not by the number of vertices.
+         */
+        private void renderHeatmap(Graphics2D g2d, double[] view) {
+            int tilesX = (getWidth() + HEAT_TILE - 1) / HEAT_TILE;
+            int tilesY = (getHeight() + HEAT_TILE - 1) / HEAT_TILE;
+            float[] density = new float[tilesX * tilesY];
+
+            // Spread each cell's population evenly over the tiles its screen rectangle covers
+            for (int r = grid.firstRow(view[1]), r1 = grid.lastRow(view[3]); r <= r1; r++) {
+                for (int c = grid.firstCol(view[0]), c1 = grid.lastCol(view[2]); c <= c1; c++) {
+                    int count = grid.cellCount(c, r);
+                    if (count == 0) continue;
+                    double cellX = grid.minX() + c * grid.cellWidth();
+                    double cellY = grid.minY() + r * grid.cellHeight();
+                    int tx0 = clampTile((int) Math.floor((cellX - originX) * zoom / HEAT_TILE), tilesX);
+                    int ty0 = clampTile((int) Math.floor((cellY - originY) * zoom / HEAT_TILE), tilesY);
+                    int tx1 = clampTile((int) Math.floor((cellX + grid.cellWidth() - originX) * zoom / HEAT_TILE), tilesX);
+                    int ty1 = clampTile((int) Math.floor((cellY + grid.cellHeight() - originY) * zoom / HEAT_TILE), tilesY);
+                    float share = (float) count / ((tx1 - tx0 + 1) * (ty1 - ty0 + 1));
+                    for (int ty = ty0; ty <= ty1; ty++) {
+                        for (int tx = tx0; tx <= tx1; tx++) {
+                            density[ty * tilesX + tx] += share;
+                        }
+                    }
+                }
+            }
+
+            float max = 0;
+            for (float d : density) max = Math.max(max, d);
+            if (max == 0) return;
+            double logMax = Math.log1p(max);
+            for (int ty = 0; ty < tilesY; ty++) {
+                for (int tx = 0; tx < tilesX; tx++) {
+                    float d = density[ty * tilesX + tx];
+                    if (d == 0) continue;
+                    int shade = (int) ((HEAT_PALETTE.length - 1) * Math.log1p(d) / logMax);
+                    g2d.setColor(HEAT_PALETTE[shade]);
+                    g2d.fillRect(tx * HEAT_TILE, ty * HEAT_TILE, HEAT_TILE, HEAT_TILE);
+                }
+            }
+        }
+
+        private int clampTile(int tile, int tiles) {
+            return Math.max(0, Math.min(tiles - 1, tile));
+        }
+
+        private void drawArrow(Graphics2D g2d, Point start, Point end) {
+            double angle = Math.atan2(end.y - start.y, end.x - start.x);
+            int arrowSize = 8;
+            int nodeRadius = VERTEX_RADIUS;
+
+            // Calculate tip of arrow (offset by node radius)
+            int tipX = (int) (end.x - nodeRadius * Math.cos(angle));
+            int tipY = (int) (end.y - nodeRadius * Math.sin(angle));
+
+            // Calculate wings
+            int x1 = (int) (tipX - arrowSize * Math.cos(angle - Math.PI / 6));
+            int y1 = (int) (tipY - arrowSize * Math.sin(angle - Math.PI / 6));
+            int x2 = (int) (tipX - arrowSize * Math.cos(angle + Math.PI / 6));
+            int y2 = (int) (tipY - arrowSize * Math.sin(angle + Math.PI / 6));
+
+            g2d.fillPolygon(new int[]{tipX, x1, x2}, new int[]{tipY, y1, y2}, 3);
+        }
+    }
+
+    public static void main(String[] args) {
+        SwingUtilities.invokeLater(() -> {
+            GraphVisualizer visualizer = new GraphVisualizer();
+            visualizer.setVisible(true);
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package graph;
+
+/**
+ * Lower bound on the remaining cost from a vertex to the target, used to direct
+ * {@link Graph#aStar}. A* returns a shortest path when the estimate never exceeds the true
+ * remaining cost, and settles each vertex once when it is also consistent:
+ * estimate(u, t) <= w(u, v) + estimate(v, t) for every edge.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /** No estimate; A* then behaves exactly like Dijkstra. */
+    Heuristic NONE = (vertex, target) -> 0;
+
+    double estimate(int vertex, int target);
+
+    /**
+     * Straight-line distance between vertex coordinates times scale. Consistent as long as
+     * no edge weighs less than scale times its length. Vertices with a NaN coordinate
+     * estimate 0.
+     */
+    static Heuristic euclidean(double[] xs, double[] ys, double scale) {
+        return (vertex, target) -> {
+            double d = Math.hypot(xs[vertex] - xs[target], ys[vertex] - ys[target]);
+            return Double.isNaN(d) ? 0 : d * scale;
+        };
+    }
+
+    /**
+     * Euclidean heuristic with the largest scale the graph's edges allow: the minimum over
+     * all edges of weight / length. Scans every edge once, so build it once per graph version.
+     * Falls back to {@link #NONE} if an edge touches a vertex without coordinates, since
+     * paths through such a vertex are not bounded by straight-line distance.
+     */
+    static Heuristic euclidean(Graph graph, double[] xs, double[] ys) {
+        AdjacencyStore adj = graph.store();
+        double scale = Double.POSITIVE_INFINITY;
+        for (int u = 0; u < adj.numVertices(); u++) {
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                int v = adj.target(e);
+                double length = Math.hypot(xs[u] - xs[v], ys[u] - ys[v]);
+                if (Double.isNaN(length)) return NONE;
+                if (length > 0) scale = Math.min(scale, adj.weight(e) / length);
+            }
+        }
+        if (scale == Double.POSITIVE_INFINITY || scale <= 0) return NONE;
+        return euclidean(xs, ys, scale);
+    }
+}
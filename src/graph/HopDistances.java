@@ -0,0 +1,91 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Result of a multi-source BFS: for every source, the vertices it reaches grouped by hop count.
+ * Stored sparsely, so memory grows with the vertices actually reached rather than
+ * sources x vertices. Within a level, vertices are in ascending index order.
+ */
+public class HopDistances {
+    private final int numVertices;
+    private final int[] sources;
+    // Per source: reached vertices level by level, and the end offset of each level
+    private final int[][] reached;
+    private final int[][] levelEnds;
+
+    HopDistances(int numVertices, int[] sources, int[][] reached, int[][] levelEnds) {
+        this.numVertices = numVertices;
+        this.sources = sources;
+        this.reached = reached;
+        this.levelEnds = levelEnds;
+    }
+
+    public int getSourceCount() {
+        return sources.length;
+    }
+
+    /** Vertex index of the i-th source, in the order the sources were given. */
+    public int getSource(int i) {
+        return sources[i];
+    }
+
+    /** Number of vertices the i-th source reaches, itself included. */
+    public int getReachedCount(int i) {
+        return reached[i].length;
+    }
+
+    /** Vertices the i-th source reaches, nearest first; the source itself comes first. */
+    public int[] getReached(int i) {
+        return reached[i].clone();
+    }
+
+    /** Number of BFS levels from the i-th source; the eccentricity is one less. */
+    public int getLevelCount(int i) {
+        return levelEnds[i].length;
+    }
+
+    /** Vertices exactly level hops from the i-th source, in ascending index order. */
+    public int[] getLevel(int i, int level) {
+        int from = level == 0 ? 0 : levelEnds[i][level - 1];
+        return Arrays.copyOfRange(reached[i], from, levelEnds[i][level]);
+    }
+
+    /**
+     * Hop count from the i-th source to the vertex, or -1 if it is unreachable.
+     * Binary searches each level, so costs O(levels * log(level size)).
+     */
+    public int getDistance(int i, int vertex) {
+        Objects.checkIndex(vertex, numVertices);
+        int from = 0;
+        for (int level = 0; level < levelEnds[i].length; level++) {
+            int to = levelEnds[i][level];
+            if (Arrays.binarySearch(reached[i], from, to, vertex) >= 0) return level;
+            from = to;
+        }
+        return -1;
+    }
+
+    public boolean isReachable(int i, int vertex) {
+        return getDistance(i, vertex) >= 0;
+    }
+
+    /** Dense hop counts from the i-th source to every vertex, -1 where unreachable. */
+    public int[] getDistances(int i) {
+        int[] distances = new int[numVertices];
+        Arrays.fill(distances, -1);
+        int from = 0;
+        for (int level = 0; level < levelEnds[i].length; level++) {
+            int to = levelEnds[i][level];
+            for (int k = from; k < to; k++) distances[reached[i][k]] = level;
+            from = to;
+        }
+        return distances;
+    }
+
+    @Override
+    public String toString() {
+        return "HopDistances(sources=" + sources.length + ", vertices=" + numVertices + ")";
+    }
+}
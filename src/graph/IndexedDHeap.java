@@ -0,0 +1,120 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Indexed 4-ary min-heap over vertex indices with double keys, supporting decrease-key.
+ * All state lives in primitive arrays sized to the vertex count, so a query that
+ * reuses the heap performs no allocation per insert, decrease or poll.
+ */
+final class IndexedDHeap {
+    private static final int ARITY = 4;
+
+    private int[] heap;      // heap slot -> vertex
+    private int[] position;  // vertex -> heap slot, or -1 if absent
+    private double[] keys;   // vertex -> key
+    private int size;
+
+    IndexedDHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /** Makes room for vertex indices below capacity. Only valid while empty. */
+    void ensureCapacity(int capacity) {
+        if (capacity <= heap.length) return;
+        capacity = Math.max(capacity, heap.length + (heap.length >> 1));
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+
+    boolean contains(int vertex) {
+        return position[vertex] >= 0;
+    }
+
+    /**
+     * Inserts the vertex, or lowers its key if it is already queued with a larger one.
+     * @return true if the heap changed
+     */
+    boolean insertOrDecrease(int vertex, double key) {
+        int slot = position[vertex];
+        if (slot < 0) {
+            slot = size++;
+            heap[slot] = vertex;
+            position[vertex] = slot;
+        } else if (key >= keys[vertex]) {
+            return false;
+        }
+        keys[vertex] = key;
+        siftUp(slot);
+        return true;
+    }
+
+    double minKey() {
+        return keys[heap[0]];
+    }
+
+    int pollMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        int min = heap[0];
+        position[min] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /** Removes every queued vertex in O(size). */
+    void clear() {
+        for (int i = 0; i < size; i++) position[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int slot) {
+        int vertex = heap[slot];
+        double key = keys[vertex];
+        while (slot > 0) {
+            int parent = (slot - 1) / ARITY;
+            int parentVertex = heap[parent];
+            if (keys[parentVertex] <= key) break;
+            heap[slot] = parentVertex;
+            position[parentVertex] = slot;
+            slot = parent;
+        }
+        heap[slot] = vertex;
+        position[vertex] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int vertex = heap[slot];
+        double key = keys[vertex];
+        while (true) {
+            int first = slot * ARITY + 1;
+            if (first >= size) break;
+            int best = first;
+            double bestKey = keys[heap[first]];
+            for (int c = first + 1, last = Math.min(first + ARITY, size); c < last; c++) {
+                double childKey = keys[heap[c]];
+                if (childKey < bestKey) {
+                    best = c;
+                    bestKey = childKey;
+                }
+            }
+            if (bestKey >= key) break;
+            heap[slot] = heap[best];
+            position[heap[slot]] = slot;
+            slot = best;
+        }
+        heap[slot] = vertex;
+        position[vertex] = slot;
+    }
+}
@@ -0,0 +1,117 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Counting copies of the bfs/dfs loops, used only when metrics, a listener or a JFR
+ * recording is active so the plain loops in Graph stay free of bookkeeping.
+ */
+final class InstrumentedTraversal {
+
+    private InstrumentedTraversal() {}
+
+    static int[] bfs(AdjacencyStore adj, int start, TraversalScratch scratch,
+                     GraphMetrics metrics, TraversalListener listener, GraphQueryEvent event) {
+        event.begin();
+        long startNanos = System.nanoTime();
+        if (listener != null) listener.traversalStarted(GraphMetrics.Operation.BFS, start);
+
+        IntQueue queue = scratch.queue;
+        VisitMarks visited = scratch.visited;
+        int[] order = scratch.order;
+        int count = 0;
+        long edges = 0;
+        int peak = 1;
+
+        visited.mark(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            order[count++] = current;
+            if (listener != null) listener.vertexVisited(current);
+            long end = adj.edgeEnd(current);
+            for (long e = adj.edgeStart(current); e < end; e++) {
+                int next = adj.target(e);
+                boolean discovered = visited.mark(next);
+                if (discovered) {
+                    queue.add(next);
+                }
+                if (listener != null) listener.edgeScanned(current, next, discovered);
+            }
+            edges += end - adj.edgeStart(current);
+            peak = Math.max(peak, queue.size());
+        }
+        finish(GraphMetrics.Operation.BFS, start, count, edges, peak, startNanos, metrics, listener, event);
+        return Arrays.copyOf(order, count);
+    }
+
+    static int[] dfs(AdjacencyStore adj, int start, TraversalScratch scratch,
+                     GraphMetrics metrics, TraversalListener listener, GraphQueryEvent event) {
+        event.begin();
+        long startNanos = System.nanoTime();
+        if (listener != null) listener.traversalStarted(GraphMetrics.Operation.DFS, start);
+
+        IntStack stack = scratch.stack;
+        VisitMarks visited = scratch.visited;
+        int[] order = scratch.order;
+        int count = 0;
+        long edges = 0;
+        int peak = 1;
+
+        visited.mark(start);
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            int popped = stack.pop();
+            order[count++] = popped;
+            if (listener != null) listener.vertexVisited(popped);
+            long first = adj.edgeStart(popped);
+            for (long e = adj.edgeEnd(popped) - 1; e >= first; e--) {
+                int next = adj.target(e);
+                boolean discovered = visited.mark(next);
+                if (discovered) {
+                    stack.push(next);
+                }
+                if (listener != null) listener.edgeScanned(popped, next, discovered);
+            }
+            edges += adj.edgeEnd(popped) - first;
+            peak = Math.max(peak, stack.size());
+        }
+        finish(GraphMetrics.Operation.DFS, start, count, edges, peak, startNanos, metrics, listener, event);
+        return Arrays.copyOf(order, count);
+    }
+
+    /**
+     * Reports a bfs/dfs answered from the query cache, timed from startNanos, to the metrics
+     * and as a JFR event flagged as a cache hit.
+     */
+    static void cacheHit(GraphMetrics.Operation op, int start, int count, long startNanos,
+                         GraphMetrics metrics, GraphQueryEvent event) {
+        long nanos = System.nanoTime() - startNanos;
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = op.name();
+            event.start = start;
+            event.verticesVisited = count;
+            event.cacheHit = true;
+            event.commit();
+        }
+        if (metrics != null) metrics.recordCacheHit(op, count, nanos);
+    }
+
+    private static void finish(GraphMetrics.Operation op, int start, int count, long edges, int peak,
+                               long startNanos, GraphMetrics metrics, TraversalListener listener,
+                               GraphQueryEvent event) {
+        long nanos = System.nanoTime() - startNanos;
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = op.name();
+            event.start = start;
+            event.verticesVisited = count;
+            event.edgesScanned = edges;
+            event.peakFrontier = peak;
+            event.commit();
+        }
+        if (metrics != null) metrics.record(op, count, edges, peak, nanos);
+        if (listener != null) listener.traversalFinished(new QueryStats(op, start, count, edges, peak, nanos));
+    }
+}
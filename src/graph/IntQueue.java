@@ -0,0 +1,54 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * FIFO queue of primitive ints backed by a growable ring buffer.
+ */
+final class IntQueue {
+    private int[] elements;
+    private int head;
+    private int size;
+
+    IntQueue(int initialCapacity) {
+        elements = new int[Math.max(Integer.highestOneBit(Math.max(initialCapacity, 1) - 1) << 1, 2)];
+    }
+
+    void add(int value) {
+        if (size == elements.length) grow();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    int poll() {
+        if (size == 0) throw new IllegalStateException("Queue is empty");
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length << 1];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        int[] copy = new int[size];
+        for (int i = 0; i < size; i++) copy[i] = elements[(head + i) & (elements.length - 1)];
+        return Arrays.toString(copy);
+    }
+}
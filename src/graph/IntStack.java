@@ -0,0 +1,37 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * LIFO stack of primitive ints backed by a growable array.
+ */
+final class IntStack {
+    private int[] elements;
+    private int size;
+
+    IntStack(int initialCapacity) {
+        elements = new int[Math.max(initialCapacity, 1)];
+    }
+
+    void push(int value) {
+        if (size == elements.length) elements = Arrays.copyOf(elements, size << 1);
+        elements[size++] = value;
+    }
+
+    int pop() {
+        if (size == 0) throw new IllegalStateException("Stack is empty");
+        return elements[--size];
+    }
+
+    int peek() {
+        if (size == 0) throw new IllegalStateException("Stack is empty");
+        return elements[size - 1];
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -1,3 +1,5 @@
+package graph;
+
 public class Main {
 
     public static void main(String[] args) {
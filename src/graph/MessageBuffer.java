@@ -0,0 +1,91 @@
+package graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Outgoing messages from one BSP partition to another, combined per target vertex.
+ *
+ * Entries are kept in insertion order in growable (target, value) arrays, found through an
+ * open-addressing table of entry numbers, so a send is a hash probe and memory follows the
+ * targets actually messaged rather than the destination's whole vertex range. The table is
+ * kept at most half full and, like the arrays, keeps its size across supersteps. The batch
+ * encodes as a count followed by (int target, double value) pairs.
+ */
+final class MessageBuffer {
+    private static final int ENTRY_BYTES = 12;
+
+    private final VertexProgram.Combiner combiner;
+    // Entry number + 1 per hash slot, 0 when empty
+    private int[] slots = new int[32];
+    private int[] targets = new int[16];
+    private double[] values = new double[16];
+    private int size;
+
+    MessageBuffer(VertexProgram.Combiner combiner) {
+        this.combiner = combiner;
+    }
+
+    void add(int target, double value) {
+        int mask = slots.length - 1;
+        int slot = slotFor(target, mask);
+        for (int entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (targets[entry - 1] == target) {
+                values[entry - 1] = combiner.combine(values[entry - 1], value);
+                return;
+            }
+        }
+        if (size == targets.length) {
+            targets = Arrays.copyOf(targets, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+        targets[size] = target;
+        values[size] = value;
+        slots[slot] = ++size;
+        if (size * 2 > slots.length) rehash();
+    }
+
+    int size() {
+        return size;
+    }
+
+    int target(int k) {
+        return targets[k];
+    }
+
+    double value(int k) {
+        return values[k];
+    }
+
+    void clear() {
+        if (size == 0) return;
+        Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    byte[] encode() {
+        ByteBuffer out = ByteBuffer.allocate(4 + ENTRY_BYTES * size).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(size);
+        for (int k = 0; k < size; k++) {
+            out.putInt(targets[k]);
+            out.putDouble(values[k]);
+        }
+        return out.array();
+    }
+
+    private void rehash() {
+        slots = new int[slots.length << 1];
+        int mask = slots.length - 1;
+        for (int k = 0; k < size; k++) {
+            int slot = slotFor(targets[k], mask);
+            while (slots[slot] != 0) slot = (slot + 1) & mask;
+            slots[slot] = k + 1;
+        }
+    }
+
+    private static int slotFor(int target, int mask) {
+        int h = target * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
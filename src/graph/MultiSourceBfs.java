@@ -0,0 +1,165 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Bit-parallel BFS from many sources at once (MS-BFS, Then et al.).
+ *
+ * Sources are split into batches of up to 64 * MAX_WORDS lanes. Within a batch every vertex
+ * carries seen, frontier and next bitmasks with one bit per lane, so a single scan of a
+ * frontier vertex's row advances every BFS that has reached it. Only vertices active in the
+ * current level are expanded. Batches are independent and run in parallel on the pool.
+ */
+final class MultiSourceBfs {
+    // Longs of lane bits per vertex in one batch; 4 words = 256 sources share each edge scan
+    private static final int MAX_WORDS = 4;
+
+    private final AdjacencyStore out;
+    private final ForkJoinPool pool;
+    private final int n;
+
+    MultiSourceBfs(AdjacencyStore out, ForkJoinPool pool) {
+        this.out = out;
+        this.pool = pool;
+        this.n = out.numVertices();
+    }
+
+    HopDistances run(int[] sources) {
+        int k = sources.length;
+        int[][] reached = new int[k][];
+        int[][] levelEnds = new int[k][];
+
+        // Narrow the batches when there are too few to keep every worker busy
+        int totalWords = (k + 63) >>> 6;
+        int wordsPerBatch = Math.max(1, Math.min(MAX_WORDS, totalWords / Math.max(1, pool.getParallelism())));
+        // n * words longs must fit one array
+        wordsPerBatch = Math.max(1, Math.min(wordsPerBatch, (Integer.MAX_VALUE - 8) / Math.max(n, 1)));
+        int lanesPerBatch = wordsPerBatch << 6;
+        int batches = (k + lanesPerBatch - 1) / lanesPerBatch;
+
+        if (batches <= 1) {
+            if (k > 0) runBatch(sources, 0, k, reached, levelEnds);
+        } else {
+            pool.submit(() -> IntStream.range(0, batches).parallel().forEach(b -> {
+                int from = b * lanesPerBatch;
+                runBatch(sources, from, Math.min(k, from + lanesPerBatch), reached, levelEnds);
+            })).join();
+        }
+        return new HopDistances(n, sources.clone(), reached, levelEnds);
+    }
+
+    /** BFS for sources[from, to) in one set of bitmasks; fills their rows of the result. */
+    private void runBatch(int[] sources, int from, int to, int[][] reached, int[][] levelEnds) {
+        int lanes = to - from;
+        int words = (lanes + 63) >>> 6;
+        long[] seen = new long[n * words];
+        long[] frontier = new long[n * words];
+        long[] next = new long[n * words];
+
+        LaneList[] lists = new LaneList[lanes];
+        for (int lane = 0; lane < lanes; lane++) lists[lane] = new LaneList();
+
+        int[] active = new int[Math.min(n, lanes)];
+        int activeCount = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            int v = sources[from + lane];
+            int base = v * words + (lane >>> 6);
+            if (isZero(frontier, v, words)) active[activeCount++] = v;
+            frontier[base] |= 1L << lane;
+            seen[base] |= 1L << lane;
+        }
+
+        int[] touched = new int[n];
+        while (activeCount > 0) {
+            // Record this level for every lane, vertices in ascending order
+            Arrays.sort(active, 0, activeCount);
+            for (int a = 0; a < activeCount; a++) {
+                int v = active[a];
+                for (int w = 0; w < words; w++) {
+                    for (long bits = frontier[v * words + w]; bits != 0; bits &= bits - 1) {
+                        lists[(w << 6) + Long.numberOfTrailingZeros(bits)].add(v);
+                    }
+                }
+            }
+            for (LaneList list : lists) list.endLevel();
+
+            // Push every lane's frontier along each active row at once
+            int touchedCount = 0;
+            for (int a = 0; a < activeCount; a++) {
+                int u = active[a];
+                int ub = u * words;
+                for (long e = out.edgeStart(u), end = out.edgeEnd(u); e < end; e++) {
+                    int vb = out.target(e) * words;
+                    boolean first = true;
+                    boolean discovered = false;
+                    for (int w = 0; w < words; w++) {
+                        if (next[vb + w] != 0) first = false;
+                        long bits = frontier[ub + w] & ~seen[vb + w];
+                        if (bits != 0) {
+                            next[vb + w] |= bits;
+                            discovered = true;
+                        }
+                    }
+                    if (discovered && first) touched[touchedCount++] = vb / words;
+                }
+            }
+
+            for (int a = 0; a < activeCount; a++) {
+                Arrays.fill(frontier, active[a] * words, active[a] * words + words, 0L);
+            }
+            for (int t = 0; t < touchedCount; t++) {
+                int vb = touched[t] * words;
+                for (int w = 0; w < words; w++) {
+                    seen[vb + w] |= next[vb + w];
+                    frontier[vb + w] = next[vb + w];
+                    next[vb + w] = 0;
+                }
+            }
+            if (active.length < touchedCount) active = new int[Math.max(touchedCount, active.length << 1)];
+            System.arraycopy(touched, 0, active, 0, touchedCount);
+            activeCount = touchedCount;
+        }
+
+        for (int lane = 0; lane < lanes; lane++) {
+            reached[from + lane] = lists[lane].vertices();
+            levelEnds[from + lane] = lists[lane].levelEnds();
+        }
+    }
+
+    private static boolean isZero(long[] masks, int v, int words) {
+        for (int w = 0; w < words; w++) {
+            if (masks[v * words + w] != 0) return false;
+        }
+        return true;
+    }
+
+    /** Growable reached list for one lane, with the offset where each non-empty level ends. */
+    private static final class LaneList {
+        private int[] vertices = new int[16];
+        private int size;
+        private int[] levelEnds = new int[8];
+        private int levels;
+
+        void add(int v) {
+            if (size == vertices.length) vertices = Arrays.copyOf(vertices, size << 1);
+            vertices[size++] = v;
+        }
+
+        /** Closes the current level if it gained vertices; a lane's levels are contiguous. */
+        void endLevel() {
+            if (size == (levels == 0 ? 0 : levelEnds[levels - 1])) return;
+            if (levels == levelEnds.length) levelEnds = Arrays.copyOf(levelEnds, levels << 1);
+            levelEnds[levels++] = size;
+        }
+
+        int[] vertices() {
+            return Arrays.copyOf(vertices, size);
+        }
+
+        int[] levelEnds() {
+            return Arrays.copyOf(levelEnds, levels);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package graph;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+/**
+ * Source of the buffer regions behind an off-heap {@link Graph}: direct memory, or
+ * temporary memory-mapped files in a directory when the graph should not need the RAM.
+ *
+ * Direct memory is capped by -XX:MaxDirectMemorySize, which defaults to the maximum heap
+ * size, so on its own it could never hold a graph larger than the heap. A direct allocator
+ * therefore checks each region against the direct memory still free under the cap and backs
+ * any region that does not fit with a mapped file in java.io.tmpdir instead.
+ */
+final class OffHeapAllocator {
+    // Direct memory limit in bytes, read once from the VM
+    private static final long MAX_DIRECT_MEMORY = maxDirectMemory();
+
+    // null allocates direct memory
+    private final Path directory;
+
+    OffHeapAllocator(Path directory) {
+        this.directory = directory;
+    }
+
+    BufferRegion allocate(long bytes) {
+        if (directory == null && bytes <= directHeadroom()) {
+            return BufferRegion.allocate(bytes);
+        }
+        Path target = directory != null ? directory : Path.of(System.getProperty("java.io.tmpdir"));
+        try {
+            return BufferRegion.allocateMapped(target, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map graph storage in " + target, e);
+        }
+    }
+
+    /** Direct memory that can still be allocated before hitting -XX:MaxDirectMemorySize. */
+    static long directHeadroom() {
+        long used = 0;
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) used = pool.getMemoryUsed();
+        }
+        return MAX_DIRECT_MEMORY - used;
+    }
+
+    private static long maxDirectMemory() {
+        try {
+            HotSpotDiagnosticMXBean vm = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            long configured = Long.parseLong(vm.getVMOption("MaxDirectMemorySize").getValue());
+            if (configured > 0) return configured;
+        } catch (RuntimeException e) {
+            // Not a HotSpot VM, or the option is unknown; assume the default
+        }
+        return Runtime.getRuntime().maxMemory();
+    }
+}
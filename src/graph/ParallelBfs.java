@@ -0,0 +1,179 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Level-synchronous, direction-optimizing parallel BFS.
+ *
+ * Each level is expanded either top-down (frontier vertices push to their neighbors) or
+ * bottom-up (unvisited vertices look for a parent in the frontier), switching on the
+ * frontier's edge count as in Beamer et al. Visited vertices live in an atomic bitmap.
+ *
+ * To reproduce the sequential visit order, every newly reached vertex records the smallest
+ * frontier position among its parents; sorting a level by (parent position, vertex index)
+ * gives exactly the order a FIFO queue over index-sorted rows would produce.
+ */
+final class ParallelBfs {
+    // Switch to bottom-up once the frontier's edges exceed 1/ALPHA of the unexplored edges
+    private static final int ALPHA = 14;
+    // Switch back to top-down once the frontier shrinks below 1/BETA of the vertices
+    private static final int BETA = 24;
+    // Ranges smaller than this are processed on the calling thread
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private static final long UNCLAIMED = Long.MAX_VALUE;
+
+    private final AdjacencyStore out;
+    private final AdjacencyStore in;
+    private final ForkJoinPool pool;
+    private final int n;
+
+    private final AtomicLongArray visited;
+    // (level << 32 | smallest parent position) for every reached vertex
+    private final AtomicLongArray claims;
+    // Frontier position of each vertex in the current frontier, -1 otherwise
+    private final int[] framePos;
+
+    ParallelBfs(AdjacencyStore out, AdjacencyStore in, ForkJoinPool pool) {
+        this.out = out;
+        this.in = in;
+        this.pool = pool;
+        this.n = out.numVertices();
+        this.visited = new AtomicLongArray((n + 63) >>> 6);
+        this.claims = new AtomicLongArray(n);
+        this.framePos = new int[n];
+    }
+
+    BfsLevels run(int start) {
+        for (int v = 0; v < n; v++) claims.set(v, UNCLAIMED);
+        Arrays.fill(framePos, -1);
+
+        int[] order = new int[n];
+        int reached = 0;
+        int[] levelSizes = new int[8];
+        int levelCount = 0;
+
+        int[] frontier = {start};
+        claims.set(start, 0L);
+        setVisited(start);
+
+        long unexploredEdges = out.numEdges();
+        long frontierEdges = out.degree(start);
+        boolean bottomUp = false;
+
+        for (int level = 1; frontier.length > 0; level++) {
+            System.arraycopy(frontier, 0, order, reached, frontier.length);
+            reached += frontier.length;
+            if (levelCount == levelSizes.length) levelSizes = Arrays.copyOf(levelSizes, levelCount << 1);
+            levelSizes[levelCount++] = frontier.length;
+
+            unexploredEdges -= frontierEdges;
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontier.length < n / BETA) {
+                bottomUp = false;
+            }
+
+            int[] next = bottomUp ? bottomUpStep(frontier, level) : topDownStep(frontier, level);
+            sortByParent(next);
+
+            final int[] reachedNow = next;
+            forRange(reachedNow.length, i -> setVisited(reachedNow[i]));
+            frontierEdges = 0;
+            for (int v : next) frontierEdges += out.degree(v);
+            frontier = next;
+        }
+        return new BfsLevels(Arrays.copyOf(order, reached), Arrays.copyOf(levelSizes, levelCount));
+    }
+
+    private int[] topDownStep(int[] frontier, int level) {
+        int[] next = new int[Math.min(n, (int) Math.min(Integer.MAX_VALUE, sumDegrees(frontier)))];
+        AtomicInteger size = new AtomicInteger();
+        forRange(frontier.length, p -> {
+            int u = frontier[p];
+            long key = ((long) level << 32) | p;
+            for (long e = out.edgeStart(u), end = out.edgeEnd(u); e < end; e++) {
+                int v = out.target(e);
+                if (isVisited(v)) continue;
+                while (true) {
+                    long current = claims.get(v);
+                    if (current <= key) break;
+                    if (claims.compareAndSet(v, current, key)) {
+                        if (current == UNCLAIMED) next[size.getAndIncrement()] = v;
+                        break;
+                    }
+                }
+            }
+        });
+        return Arrays.copyOf(next, size.get());
+    }
+
+    private int[] bottomUpStep(int[] frontier, int level) {
+        forRange(frontier.length, p -> framePos[frontier[p]] = p);
+        int[] next = new int[n];
+        AtomicInteger size = new AtomicInteger();
+        forRange(visited.length(), word -> {
+            long unvisited = ~visited.get(word);
+            while (unvisited != 0) {
+                int v = (word << 6) + Long.numberOfTrailingZeros(unvisited);
+                unvisited &= unvisited - 1;
+                if (v >= n) break;
+
+                int parent = Integer.MAX_VALUE;
+                for (long e = in.edgeStart(v), end = in.edgeEnd(v); e < end; e++) {
+                    int pos = framePos[in.target(e)];
+                    if (pos >= 0 && pos < parent) {
+                        parent = pos;
+                        if (pos == 0) break;
+                    }
+                }
+                if (parent != Integer.MAX_VALUE) {
+                    claims.set(v, ((long) level << 32) | parent);
+                    next[size.getAndIncrement()] = v;
+                }
+            }
+        });
+        forRange(frontier.length, p -> framePos[frontier[p]] = -1);
+        return Arrays.copyOf(next, size.get());
+    }
+
+    /** Orders a level by (smallest parent position, vertex index). */
+    private void sortByParent(int[] level) {
+        long[] keys = new long[level.length];
+        forRange(level.length, i -> keys[i] = ((claims.get(level[i]) & 0xFFFFFFFFL) << 32) | level[i]);
+        if (keys.length >= SEQUENTIAL_THRESHOLD) {
+            pool.submit(() -> Arrays.parallelSort(keys)).join();
+        } else {
+            Arrays.sort(keys);
+        }
+        for (int i = 0; i < keys.length; i++) level[i] = (int) keys[i];
+    }
+
+    private long sumDegrees(int[] vertices) {
+        long sum = 0;
+        for (int v : vertices) sum += out.degree(v);
+        return sum;
+    }
+
+    private boolean isVisited(int v) {
+        return (visited.get(v >>> 6) & (1L << v)) != 0;
+    }
+
+    private void setVisited(int v) {
+        long bit = 1L << v;
+        visited.accumulateAndGet(v >>> 6, bit, (a, b) -> a | b);
+    }
+
+    private void forRange(int count, IntConsumer body) {
+        if (count < SEQUENTIAL_THRESHOLD) {
+            for (int i = 0; i < count; i++) body.accept(i);
+        } else {
+            pool.submit(() -> IntStream.range(0, count).parallel().forEach(body)).join();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package graph;
+
+/**
+ * Point-to-point searches that stop as soon as the target's distance is known:
+ * bidirectional BFS for hop counts, bidirectional Dijkstra and A* for weights.
+ *
+ * The bidirectional searches grow one frontier from the source over out-edges and one from
+ * the target over in-edges, always expanding the cheaper side, so on graphs that spread
+ * out evenly each covers about half the radius and together they settle far fewer vertices
+ * than a one-sided search.
+ */
+final class PointToPoint {
+
+    private PointToPoint() {
+    }
+
+    /**
+     * Fewest-hops path. Expands a whole level of the smaller frontier at a time; the first
+     * level that touches the other side holds a shortest meeting point.
+     */
+    static Route bidirectionalBfs(AdjacencyStore out, AdjacencyStore in, int source, int target,
+                                  SearchFrontier forward, SearchFrontier backward) {
+        int n = out.numVertices();
+        forward.reset(n);
+        backward.reset(n);
+        if (source == target) return new Route(source, target, new int[]{source}, 0, 0);
+
+        forward.label(source, 0, -1);
+        forward.queue.add(source);
+        backward.label(target, 0, -1);
+        backward.queue.add(target);
+
+        int meet = -1;
+        double best = Double.POSITIVE_INFINITY;
+        while (meet < 0 && !forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            boolean fromSource = forward.queue.size() <= backward.queue.size();
+            SearchFrontier side = fromSource ? forward : backward;
+            SearchFrontier other = fromSource ? backward : forward;
+            AdjacencyStore adj = fromSource ? out : in;
+
+            for (int remaining = side.queue.size(); remaining > 0; remaining--) {
+                int u = side.queue.poll();
+                side.settled++;
+                double next = side.distance(u) + 1;
+                for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                    int v = adj.target(e);
+                    if (side.reached(v)) continue;
+                    side.label(v, next, u);
+                    side.queue.add(v);
+                    if (other.reached(v) && next + other.distance(v) < best) {
+                        best = next + other.distance(v);
+                        meet = v;
+                    }
+                }
+            }
+        }
+        return finish(source, target, meet, best, forward, backward);
+    }
+
+    /**
+     * Bidirectional Dijkstra. Stops once the two heaps' minimum keys together reach the best
+     * meeting cost found, since no undiscovered path can be cheaper.
+     * @throws IllegalStateException if a negative edge weight is encountered
+     */
+    static Route bidirectionalDijkstra(AdjacencyStore out, AdjacencyStore in, int source, int target,
+                                       SearchFrontier forward, SearchFrontier backward) {
+        int n = out.numVertices();
+        forward.reset(n);
+        backward.reset(n);
+        if (source == target) return new Route(source, target, new int[]{source}, 0, 0);
+
+        IndexedDHeap forwardHeap = forward.heap(n);
+        IndexedDHeap backwardHeap = backward.heap(n);
+        forward.label(source, 0, -1);
+        forwardHeap.insertOrDecrease(source, 0);
+        backward.label(target, 0, -1);
+        backwardHeap.insertOrDecrease(target, 0);
+
+        int meet = -1;
+        double best = Double.POSITIVE_INFINITY;
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            if (forwardHeap.minKey() + backwardHeap.minKey() >= best) break;
+            boolean fromSource = forwardHeap.minKey() <= backwardHeap.minKey();
+            SearchFrontier side = fromSource ? forward : backward;
+            SearchFrontier other = fromSource ? backward : forward;
+            IndexedDHeap heap = fromSource ? forwardHeap : backwardHeap;
+            AdjacencyStore adj = fromSource ? out : in;
+
+            int u = heap.pollMin();
+            side.settled++;
+            double du = side.distance(u);
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                double w = adj.weight(e);
+                if (w < 0) {
+                    throw new IllegalStateException("Dijkstra requires non-negative weights, found " + w);
+                }
+                int v = adj.target(e);
+                double candidate = du + w;
+                if (candidate < side.distance(v)) {
+                    side.label(v, candidate, u);
+                    heap.insertOrDecrease(v, candidate);
+                }
+                if (other.reached(v) && candidate + other.distance(v) < best) {
+                    best = candidate + other.distance(v);
+                    meet = v;
+                }
+            }
+        }
+        forwardHeap.clear();
+        backwardHeap.clear();
+        return finish(source, target, meet, best, forward, backward);
+    }
+
+    /**
+     * A* from source toward target, ordering the heap by distance plus the heuristic's
+     * estimate of what remains. Vertices may be reopened if the heuristic is not consistent.
+     * @throws IllegalStateException if a negative edge weight is encountered
+     */
+    static Route aStar(AdjacencyStore out, int source, int target, Heuristic heuristic, SearchFrontier forward) {
+        int n = out.numVertices();
+        forward.reset(n);
+        IndexedDHeap heap = forward.heap(n);
+        forward.label(source, 0, -1);
+        heap.insertOrDecrease(source, heuristic.estimate(source, target));
+
+        boolean found = false;
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            forward.settled++;
+            if (u == target) {
+                found = true;
+                break;
+            }
+            double du = forward.distance(u);
+            for (long e = out.edgeStart(u), end = out.edgeEnd(u); e < end; e++) {
+                double w = out.weight(e);
+                if (w < 0) {
+                    throw new IllegalStateException("A* requires non-negative weights, found " + w);
+                }
+                int v = out.target(e);
+                double candidate = du + w;
+                if (candidate < forward.distance(v)) {
+                    forward.label(v, candidate, u);
+                    heap.insertOrDecrease(v, candidate + heuristic.estimate(v, target));
+                }
+            }
+        }
+        heap.clear();
+        if (!found) return new Route(source, target, new int[0], Double.POSITIVE_INFINITY, forward.settled);
+
+        int length = 1;
+        for (int v = target; v != source; v = forward.predecessor(v)) length++;
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; i >= 0; v = forward.predecessor(v), i--) path[i] = v;
+        return new Route(source, target, path, forward.distance(target), forward.settled);
+    }
+
+    /** Joins the source half of the path up to meet with the target half after it. */
+    private static Route finish(int source, int target, int meet, double cost,
+                                SearchFrontier forward, SearchFrontier backward) {
+        int settled = forward.settled + backward.settled;
+        if (meet < 0) return new Route(source, target, new int[0], Double.POSITIVE_INFINITY, settled);
+
+        int head = 1;
+        for (int v = meet; v != source; v = forward.predecessor(v)) head++;
+        int tail = 0;
+        for (int v = meet; v != target; v = backward.predecessor(v)) tail++;
+        int[] path = new int[head + tail];
+        for (int v = meet, i = head - 1; i >= 0; v = forward.predecessor(v), i--) path[i] = v;
+        for (int v = meet, i = head; i < path.length; i++) {
+            v = backward.predecessor(v);
+            path[i] = v;
+        }
+        return new Route(source, target, path, cost, settled);
+    }
+}
@@ -0,0 +1,189 @@
+package graph;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Bounded LRU cache of traversal and path results, attached with
+ * {@link Graph#setQueryCache(QueryCache)}.
+ *
+ * Results are kept as the int[] of vertex indices the query produced, keyed by query kind,
+ * source and target, and tagged with the graph's modification count. The first lookup or
+ * store after the graph changes drops every entry, so stale results are never returned.
+ * Entries are charged their array size plus a fixed overhead against a byte budget, and the
+ * least recently used are evicted to stay within it.
+ *
+ * A cache serves one graph at a time. All methods are synchronized.
+ */
+public class QueryCache {
+
+    public enum Kind { BFS, DFS, SHORTEST_PATH }
+
+    // Approximate heap cost of a map entry, its key and the array header
+    private static final long ENTRY_OVERHEAD = 96;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, int[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private int version;
+    private Graph owner;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * @param maxBytes Approximate heap budget for cached results
+     */
+    public QueryCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache budget must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized void attach(Graph graph) {
+        if (owner != null && owner != graph) {
+            throw new IllegalStateException("Query cache is already attached to another graph");
+        }
+        owner = graph;
+    }
+
+    synchronized void detach(Graph graph) {
+        if (owner == graph) {
+            owner = null;
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Cached result for the query at the graph version, or null on a miss.
+     * The array is shared with the cache and must not be modified.
+     */
+    synchronized int[] get(Kind kind, int source, int target, int graphVersion) {
+        checkVersion(graphVersion);
+        int[] result = entries.get(new Key(kind, source, target));
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /** Stores a result computed at the graph version; results larger than the budget are skipped. */
+    synchronized void put(Kind kind, int source, int target, int graphVersion, int[] result) {
+        checkVersion(graphVersion);
+        long cost = cost(result);
+        if (cost > maxBytes) return;
+        int[] previous = entries.put(new Key(kind, source, target), result);
+        if (previous != null) bytes -= cost(previous);
+        bytes += cost;
+
+        Iterator<int[]> eldest = entries.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= cost(eldest.next());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void checkVersion(int graphVersion) {
+        if (graphVersion != version) {
+            invalidateAll();
+            version = graphVersion;
+        }
+    }
+
+    private void invalidateAll() {
+        invalidations += entries.size();
+        entries.clear();
+        bytes = 0;
+    }
+
+    private static long cost(int[] result) {
+        return ENTRY_OVERHEAD + 4L * result.length;
+    }
+
+    /** Drop every entry; counted as invalidations. */
+    public synchronized void clear() {
+        invalidateAll();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /** Fraction of lookups that were hits, or 0 before the first lookup. */
+    public synchronized double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /** Entries removed to stay within the byte budget. */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    /** Entries dropped because the graph changed, or by clear(). */
+    public synchronized long invalidations() {
+        return invalidations;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Approximate heap held by cached results. */
+    public synchronized long sizeBytes() {
+        return bytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /** Reset the hit, miss, eviction and invalidation counters. */
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "QueryCache(entries=" + entries.size() + ", bytes=" + bytes + "/" + maxBytes
+                + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+                + ", invalidations=" + invalidations + ")";
+    }
+
+    private static final class Key {
+        final Kind kind;
+        final int source;
+        final int target;
+
+        Key(Kind kind, int source, int target) {
+            this.kind = kind;
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return kind == other.kind && source == other.source && target == other.target;
+        }
+
+        @Override
+        public int hashCode() {
+            return (kind.ordinal() * 31 + source) * 0x9E3779B9 + target;
+        }
+    }
+}
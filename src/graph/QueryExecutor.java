@@ -0,0 +1,179 @@
+package graph;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs graph queries off the Swing event dispatch thread.
+ *
+ * Each query runs as a SwingWorker on a bounded pool of daemon threads rather than the
+ * shared SwingWorker executor, so long queries cannot starve other background work.
+ * Progress items are buffered on the worker and handed to the EDT at most every
+ * {@link #FLUSH_NANOS}, so a query producing millions of items costs the EDT a handful of
+ * batched updates per second. Queries can be cancelled or given a timeout; both interrupt
+ * the worker, and queries should also poll {@link Progress#isCancelled()} in their loops.
+ *
+ * Every {@link Callback} method is called on the EDT, and every progress call comes before
+ * the call that reports the outcome. Batches are posted with invokeLater rather than
+ * SwingWorker.publish, whose timer-driven delivery can run after done().
+ */
+public class QueryExecutor implements AutoCloseable {
+    // Longest time a progress item waits on the worker before it is handed to the EDT
+    public static final long FLUSH_NANOS = 50_000_000L;
+    // Queries waiting for a thread beyond this are rejected instead of piling up
+    private static final int MAX_QUEUED = 16;
+
+    private final ThreadPoolExecutor pool;
+    private final ScheduledExecutorService timeouts;
+
+    /** Background work that reports progress items of type P and returns a T. */
+    @FunctionalInterface
+    public interface Query<T, P> {
+        T run(Progress<P> progress) throws Exception;
+    }
+
+    /** Handed to a running query to report items and observe cancellation. */
+    public interface Progress<P> {
+        void publish(P item);
+
+        boolean isCancelled();
+    }
+
+    /** Receives a query's progress and outcome on the EDT. */
+    public interface Callback<T, P> {
+        /** Items published since the previous call, in order. */
+        default void progress(List<P> items) {}
+
+        void finished(T result);
+
+        default void failed(Throwable error) {}
+
+        /** The query was cancelled, either explicitly or because it ran past its timeout. */
+        default void cancelled(boolean timedOut) {}
+    }
+
+    /**
+     * @param threads Number of queries that may run at once
+     */
+    public QueryExecutor(int threads) {
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED), daemonThreads("graph-query"));
+        this.timeouts = Executors.newSingleThreadScheduledExecutor(daemonThreads("graph-query-timeout"));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Start a query in the background.
+     * @param timeoutMillis Cancel the query after this long; 0 or less for no timeout
+     * @return the running task, which can be cancelled
+     * @throws java.util.concurrent.RejectedExecutionException if too many queries are waiting
+     */
+    public <T, P> Task<T, P> submit(Query<T, P> query, Callback<T, P> callback, long timeoutMillis) {
+        Task<T, P> task = new Task<>(query, callback);
+        pool.execute(task);
+        if (timeoutMillis > 0) {
+            task.timeout = timeouts.schedule(task::expire, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return task;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+        timeouts.shutdownNow();
+    }
+
+    /** A submitted query. Cancelling it interrupts the worker and reports cancelled(false). */
+    public static final class Task<T, P> extends SwingWorker<T, Void> {
+        private final Query<T, P> query;
+        private final Callback<T, P> callback;
+        private volatile boolean timedOut;
+        private volatile ScheduledFuture<?> timeout;
+
+        // Items not yet handed to the EDT; only touched by the worker thread
+        private List<P> buffer = new ArrayList<>();
+        private long lastFlush = System.nanoTime();
+
+        private Task(Query<T, P> query, Callback<T, P> callback) {
+            this.query = query;
+            this.callback = callback;
+        }
+
+        /** Cancel the query. Safe to call from any thread, and more than once. */
+        public void cancel() {
+            cancel(true);
+        }
+
+        private void expire() {
+            timedOut = true;
+            cancel(true);
+        }
+
+        @Override
+        protected T doInBackground() throws Exception {
+            try {
+                return query.run(new Progress<>() {
+                    @Override
+                    public void publish(P item) {
+                        buffer.add(item);
+                        if (System.nanoTime() - lastFlush >= FLUSH_NANOS) flush();
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return Task.this.isCancelled();
+                    }
+                });
+            } finally {
+                flush();
+            }
+        }
+
+        private void flush() {
+            lastFlush = System.nanoTime();
+            if (buffer.isEmpty() || isCancelled()) return;
+            List<P> items = buffer;
+            buffer = new ArrayList<>();
+            SwingUtilities.invokeLater(() -> {
+                if (!isCancelled()) callback.progress(items);
+            });
+        }
+
+        @Override
+        protected void done() {
+            ScheduledFuture<?> pending = timeout;
+            if (pending != null) pending.cancel(false);
+            if (isCancelled()) {
+                callback.cancelled(timedOut);
+                return;
+            }
+            try {
+                callback.finished(get());
+            } catch (ExecutionException e) {
+                callback.failed(e.getCause());
+            } catch (InterruptedException | CancellationException e) {
+                callback.cancelled(timedOut);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package graph;
+
+/**
+ * Counters for a single instrumented traversal, passed to {@link TraversalListener#traversalFinished}.
+ */
+public final class QueryStats {
+    private final GraphMetrics.Operation operation;
+    private final int start;
+    private final int verticesVisited;
+    private final long edgesScanned;
+    private final int peakFrontier;
+    private final long nanos;
+
+    QueryStats(GraphMetrics.Operation operation, int start, int verticesVisited,
+               long edgesScanned, int peakFrontier, long nanos) {
+        this.operation = operation;
+        this.start = start;
+        this.verticesVisited = verticesVisited;
+        this.edgesScanned = edgesScanned;
+        this.peakFrontier = peakFrontier;
+        this.nanos = nanos;
+    }
+
+    public GraphMetrics.Operation getOperation() { return operation; }
+    public int getStart() { return start; }
+    public int getVerticesVisited() { return verticesVisited; }
+    public long getEdgesScanned() { return edgesScanned; }
+    public int getPeakFrontier() { return peakFrontier; }
+    public long getNanos() { return nanos; }
+
+    @Override
+    public String toString() {
+        return operation + " from " + start + ": " + verticesVisited + " vertices, " + edgesScanned
+                + " edges, peak frontier " + peakFrontier + ", " + nanos / 1000 + " us";
+    }
+}
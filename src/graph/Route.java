@@ -0,0 +1,61 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Result of a point-to-point search: the path, its cost, and how much of the graph the
+ * search explored to find it.
+ */
+public class Route {
+    private final int source;
+    private final int target;
+    private final int[] path;
+    private final double cost;
+    private final int settled;
+
+    Route(int source, int target, int[] path, double cost, int settled) {
+        this.source = source;
+        this.target = target;
+        this.path = path;
+        this.cost = cost;
+        this.settled = settled;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public boolean hasPath() {
+        return path.length > 0;
+    }
+
+    /** Vertex indices from source to target inclusive, or an empty array if there is no path. */
+    public int[] getPath() {
+        return path.clone();
+    }
+
+    /** Total weight of the path (the hop count for unweighted searches), or infinity if none. */
+    public double getCost() {
+        return cost;
+    }
+
+    /** Number of edges on the path, or -1 if there is none. */
+    public int getHops() {
+        return path.length - 1;
+    }
+
+    /** Vertices expanded by the search, in both directions for bidirectional searches. */
+    public int getSettledCount() {
+        return settled;
+    }
+
+    @Override
+    public String toString() {
+        return "Route(" + source + " -> " + target + ", cost=" + cost + ", settled=" + settled
+                + ", path=" + Arrays.toString(path) + ")";
+    }
+}
@@ -0,0 +1,75 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * One direction of a point-to-point search: tentative distances and predecessors plus the
+ * queue or heap that orders expansion. Labels are stamped with an epoch like
+ * {@link VisitMarks}, so starting a search costs O(1) rather than O(V) and a search that
+ * settles a few vertices touches only those.
+ */
+final class SearchFrontier {
+    private int[] stamps;
+    private double[] distances;
+    private int[] predecessors;
+    private int epoch;
+
+    final IntQueue queue = new IntQueue(16);
+    private IndexedDHeap heap;
+    int settled;
+
+    SearchFrontier(int numVertices) {
+        allocate(numVertices);
+    }
+
+    private void allocate(int capacity) {
+        stamps = new int[capacity];
+        distances = new double[capacity];
+        predecessors = new int[capacity];
+        epoch = 0;
+    }
+
+    /** Forget all labels, growing to cover numVertices if needed. */
+    void reset(int numVertices) {
+        if (stamps.length < numVertices) {
+            allocate(Math.max(numVertices, stamps.length + (stamps.length >> 1)));
+        }
+        if (++epoch == 0) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+        queue.clear();
+        if (heap != null) heap.clear();
+        settled = 0;
+    }
+
+    /** Priority queue for weighted searches, created on first use. */
+    IndexedDHeap heap(int numVertices) {
+        if (heap == null) {
+            heap = new IndexedDHeap(numVertices);
+        } else {
+            heap.ensureCapacity(numVertices);
+        }
+        return heap;
+    }
+
+    boolean reached(int vertex) {
+        return stamps[vertex] == epoch;
+    }
+
+    /** Tentative distance, or Double.POSITIVE_INFINITY if the vertex has no label. */
+    double distance(int vertex) {
+        return stamps[vertex] == epoch ? distances[vertex] : Double.POSITIVE_INFINITY;
+    }
+
+    /** The vertex's neighbor on the way back to this direction's origin, or -1. */
+    int predecessor(int vertex) {
+        return stamps[vertex] == epoch ? predecessors[vertex] : -1;
+    }
+
+    void label(int vertex, double distance, int predecessor) {
+        stamps[vertex] = epoch;
+        distances[vertex] = distance;
+        predecessors[vertex] = predecessor;
+    }
+}
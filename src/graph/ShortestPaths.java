@@ -0,0 +1,55 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Single-source weighted shortest paths: a distance and predecessor for every vertex.
+ * Unreachable vertices have distance Double.POSITIVE_INFINITY and predecessor -1.
+ */
+public class ShortestPaths {
+    private final int source;
+    private final double[] distances;
+    private final int[] predecessors;
+
+    ShortestPaths(int source, double[] distances, int[] predecessors) {
+        this.source = source;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public double getDistance(int vertex) {
+        return distances[vertex];
+    }
+
+    public boolean hasPathTo(int vertex) {
+        return distances[vertex] != Double.POSITIVE_INFINITY;
+    }
+
+    public int getPredecessor(int vertex) {
+        return predecessors[vertex];
+    }
+
+    /**
+     * Vertex indices from the source to the destination inclusive,
+     * or an empty array if the destination is unreachable.
+     */
+    public int[] getPath(int destination) {
+        if (!hasPathTo(destination)) return new int[0];
+        int length = 1;
+        for (int v = destination; v != source; v = predecessors[v]) length++;
+        int[] path = new int[length];
+        for (int v = destination, i = length - 1; i >= 0; v = predecessors[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return "ShortestPaths(source=" + source + ", distances=" + Arrays.toString(distances) + ")";
+    }
+}
@@ -0,0 +1,145 @@
+package graph;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Uniform grid over vertex positions for viewport culling.
+ * Cells are stored CSR-style: the vertices of cell c are cellVertices[cellStart[c] .. cellStart[c + 1]).
+ * The grid has at most MAX_SIDE x MAX_SIDE cells, so per-cell scans stay bounded for any graph size.
+ * Vertices whose coordinate is NaN have no position and are left out.
+ */
+final class SpatialGrid {
+    private static final int MAX_SIDE = 256;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double minX, minY;
+    private final double cellWidth, cellHeight;
+    private final int cols, rows;
+    private final int[] cellStart;
+    private final int[] cellVertices;
+
+    SpatialGrid(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays differ in length: " + xs.length + " vs " + ys.length);
+        }
+        this.xs = xs;
+        this.ys = ys;
+
+        double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+        int placed = 0;
+        for (int v = 0; v < xs.length; v++) {
+            if (Double.isNaN(xs[v]) || Double.isNaN(ys[v])) continue;
+            x0 = Math.min(x0, xs[v]);
+            y0 = Math.min(y0, ys[v]);
+            x1 = Math.max(x1, xs[v]);
+            y1 = Math.max(y1, ys[v]);
+            placed++;
+        }
+        if (placed == 0) {
+            x0 = y0 = 0;
+            x1 = y1 = 1;
+        }
+
+        // About two vertices per cell
+        int side = (int) Math.max(1, Math.min(MAX_SIDE, Math.ceil(Math.sqrt(placed / 2.0))));
+        this.minX = x0;
+        this.minY = y0;
+        this.cols = side;
+        this.rows = side;
+        this.cellWidth = Math.max(x1 - x0, 1e-9) / side;
+        this.cellHeight = Math.max(y1 - y0, 1e-9) / side;
+
+        // Counting sort of vertices into cells
+        int cells = cols * rows;
+        cellStart = new int[cells + 1];
+        for (int v = 0; v < xs.length; v++) {
+            if (Double.isNaN(xs[v]) || Double.isNaN(ys[v])) continue;
+            cellStart[cellOf(v) + 1]++;
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellVertices = new int[placed];
+        int[] fill = new int[cells];
+        for (int v = 0; v < xs.length; v++) {
+            if (Double.isNaN(xs[v]) || Double.isNaN(ys[v])) continue;
+            int c = cellOf(v);
+            cellVertices[cellStart[c] + fill[c]++] = v;
+        }
+    }
+
+    private int cellOf(int v) {
+        return row(ys[v]) * cols + col(xs[v]);
+    }
+
+    private int col(double x) {
+        return (int) Math.max(0, Math.min(cols - 1, Math.floor((x - minX) / cellWidth)));
+    }
+
+    private int row(double y) {
+        return (int) Math.max(0, Math.min(rows - 1, Math.floor((y - minY) / cellHeight)));
+    }
+
+    /** Calls the consumer for every positioned vertex inside the rectangle (inclusive). */
+    void query(double x0, double y0, double x1, double y1, IntConsumer consumer) {
+        int c0 = col(x0), c1 = col(x1), r0 = row(y0), r1 = row(y1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    int v = cellVertices[i];
+                    if (xs[v] >= x0 && xs[v] <= x1 && ys[v] >= y0 && ys[v] <= y1) {
+                        consumer.accept(v);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Upper bound on the vertices inside the rectangle: the population of every cell it touches.
+     * Costs one read per touched cell, independent of how many vertices those cells hold.
+     */
+    int estimateCount(double x0, double y0, double x1, double y1) {
+        if (x1 < x0 || y1 < y0) return 0;
+        int c0 = col(x0), c1 = col(x1), r0 = row(y0), r1 = row(y1);
+        int count = 0;
+        for (int r = r0; r <= r1; r++) {
+            count += cellStart[r * cols + c1 + 1] - cellStart[r * cols + c0];
+        }
+        return count;
+    }
+
+    boolean contains(int v, double x0, double y0, double x1, double y1) {
+        return xs[v] >= x0 && xs[v] <= x1 && ys[v] >= y0 && ys[v] <= y1;
+    }
+
+    double x(int v) { return xs[v]; }
+    double y(int v) { return ys[v]; }
+
+    int cols() { return cols; }
+    int rows() { return rows; }
+    double minX() { return minX; }
+    double minY() { return minY; }
+    double cellWidth() { return cellWidth; }
+    double cellHeight() { return cellHeight; }
+
+    /** Number of vertices in cell (col, row). */
+    int cellCount(int col, int row) {
+        int cell = row * cols + col;
+        return cellStart[cell + 1] - cellStart[cell];
+    }
+
+    /** Column range [first, last] of cells overlapping x0..x1. */
+    int firstCol(double x0) { return col(x0); }
+    int lastCol(double x1) { return col(x1); }
+    int firstRow(double y0) { return row(y0); }
+    int lastRow(double y1) { return row(y1); }
+
+    /** Bounding box of the positioned vertices as {minX, minY, maxX, maxY}. */
+    double[] bounds() {
+        return new double[]{minX, minY, minX + cellWidth * cols, minY + cellHeight * rows};
+    }
+}
@@ -0,0 +1,102 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Strongly connected components computed by an iterative Tarjan pass, so recursion depth
+ * never limits the graph size. Components are numbered in reverse topological order of the
+ * condensation: component 0 has no edges into any other component. Removed vertices belong
+ * to no component.
+ */
+public class StronglyConnectedComponents {
+    private final int[] componentOf;
+    private final int[] sizes;
+
+    private StronglyConnectedComponents(int[] componentOf, int[] sizes) {
+        this.componentOf = componentOf;
+        this.sizes = sizes;
+    }
+
+    static StronglyConnectedComponents compute(AdjacencyStore adj, VertexDictionary vertices) {
+        int n = adj.numVertices();
+        int[] index = new int[n];      // discovery order + 1, 0 = unvisited
+        int[] low = new int[n];
+        int[] componentOf = new int[n];
+        Arrays.fill(componentOf, -1);
+
+        int[] sccStack = new int[n];   // Tarjan's vertex stack
+        int sccTop = 0;
+        int[] callStack = new int[n];  // simulated recursion: vertex per frame
+        long[] cursor = new long[n];   // next edge to explore per frame
+        int[] sizes = new int[16];
+        int components = 0;
+        int counter = 0;
+
+        for (int root = 0; root < n; root++) {
+            // A removed vertex has no edges left, so only a root can reach it
+            if (index[root] != 0 || vertices.isRemoved(root)) continue;
+
+            int depth = 0;
+            callStack[0] = root;
+            cursor[0] = adj.edgeStart(root);
+            index[root] = low[root] = ++counter;
+            sccStack[sccTop++] = root;
+
+            while (depth >= 0) {
+                int v = callStack[depth];
+                long end = adj.edgeEnd(v);
+                boolean descended = false;
+                while (cursor[depth] < end) {
+                    int w = adj.target(cursor[depth]++);
+                    if (index[w] == 0) {
+                        index[w] = low[w] = ++counter;
+                        sccStack[sccTop++] = w;
+                        callStack[++depth] = w;
+                        cursor[depth] = adj.edgeStart(w);
+                        descended = true;
+                        break;
+                    } else if (componentOf[w] < 0) {
+                        // w is still on the Tarjan stack
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                }
+                if (descended) continue;
+
+                if (low[v] == index[v]) {
+                    if (components == sizes.length) sizes = Arrays.copyOf(sizes, components << 1);
+                    int size = 0;
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        componentOf[w] = components;
+                        size++;
+                    } while (w != v);
+                    sizes[components++] = size;
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callStack[depth];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return new StronglyConnectedComponents(componentOf, Arrays.copyOf(sizes, components));
+    }
+
+    public int getComponentCount() {
+        return sizes.length;
+    }
+
+    /** Component id of a vertex index, or -1 for a removed vertex. */
+    public int getComponent(int vertex) {
+        return componentOf[vertex];
+    }
+
+    public int getComponentSize(int component) {
+        return sizes[component];
+    }
+
+    public boolean stronglyConnected(int a, int b) {
+        return componentOf[a] >= 0 && componentOf[a] == componentOf[b];
+    }
+}
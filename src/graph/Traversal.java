@@ -0,0 +1,244 @@
+package graph;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy BFS or DFS over vertex indices. Each vertex is discovered only when the caller asks for
+ * it, so a search that stops early never touches the rest of the graph. Without limits the
+ * order matches {@link Graph#bfsIndices(int)} / {@link Graph#dfsIndices(int)}.
+ *
+ * Limits are set before iterating:
+ * <ul>
+ *   <li>{@link #maxDepth(int)}: vertices further than this many hops are not visited</li>
+ *   <li>{@link #budget(int)}: stop after this many vertices</li>
+ *   <li>{@link #stopAt(IntPredicate)}: stop right after returning the first matching vertex</li>
+ * </ul>
+ * The traversal borrows the graph's scratch memory and returns it once exhausted or closed.
+ *
+ * A depth-limited DFS still visits every vertex within maxDepth hops. A vertex first reached
+ * along a long path is expanded again when a shorter path reaches it, so its neighbors come
+ * within the limit. That repeats at most maxDepth times per vertex, and no vertex is returned twice.
+ */
+public class Traversal implements PrimitiveIterator.OfInt, AutoCloseable {
+
+    public enum Order { BFS, DFS }
+
+    private final AdjacencyStore adj;
+    private final Order order;
+    private final AtomicReference<TraversalScratch> slot;
+    private TraversalScratch scratch;
+
+    private int maxDepth = Integer.MAX_VALUE;
+    private int budget = Integer.MAX_VALUE;
+    private IntPredicate target;
+
+    private boolean started;
+    private boolean found;
+    private int visited;
+    private int lastDepth = -1;
+
+    // BFS level bookkeeping
+    private int depth;
+    private int remainingInLevel = 1;
+    private int nextLevelSize;
+
+    // DFS depth of each stacked vertex. With a depth limit, scratch.order holds the smallest
+    // depth each marked vertex was pushed at, stored as ~depth once it has been returned.
+    private IntStack depths;
+
+    Traversal(AdjacencyStore adj, int start, Order order, AtomicReference<TraversalScratch> slot) {
+        this.adj = adj;
+        this.order = order;
+        this.slot = slot;
+        this.scratch = TraversalScratch.borrow(slot, adj.numVertices());
+        scratch.visited.mark(start);
+        if (order == Order.BFS) {
+            scratch.queue.add(start);
+        } else {
+            scratch.stack.push(start);
+            scratch.order[start] = 0;
+            depths = new IntStack(16);
+            depths.push(0);
+        }
+    }
+
+    /** Do not visit vertices more than maxDepth hops from the start. */
+    public Traversal maxDepth(int maxDepth) {
+        checkNotStarted();
+        if (maxDepth < 0) throw new IllegalArgumentException("maxDepth must be >= 0");
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /** Visit at most budget vertices. */
+    public Traversal budget(int budget) {
+        checkNotStarted();
+        if (budget < 0) throw new IllegalArgumentException("budget must be >= 0");
+        this.budget = budget;
+        return this;
+    }
+
+    /** Stop right after returning the first vertex that matches. */
+    public Traversal stopAt(IntPredicate target) {
+        checkNotStarted();
+        this.target = target;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (scratch == null) return false;
+        if (order == Order.DFS && maxDepth != Integer.MAX_VALUE && !found && visited < budget) {
+            skipReturnedDfs();
+        }
+        boolean empty = order == Order.BFS ? scratch.queue.isEmpty() : scratch.stack.isEmpty();
+        if (empty || found || visited >= budget) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) throw new NoSuchElementException();
+        started = true;
+        visited++;
+        int vertex = order == Order.BFS ? nextBfs() : nextDfs();
+        if (target != null && target.test(vertex)) {
+            found = true;
+        }
+        return vertex;
+    }
+
+    private int nextBfs() {
+        if (remainingInLevel == 0) {
+            depth++;
+            remainingInLevel = nextLevelSize;
+            nextLevelSize = 0;
+        }
+        remainingInLevel--;
+        int current = scratch.queue.poll();
+        lastDepth = depth;
+        if (depth < maxDepth) {
+            VisitMarks marks = scratch.visited;
+            for (long e = adj.edgeStart(current), end = adj.edgeEnd(current); e < end; e++) {
+                int next = adj.target(e);
+                if (marks.mark(next)) {
+                    scratch.queue.add(next);
+                    nextLevelSize++;
+                }
+            }
+        }
+        return current;
+    }
+
+    private int nextDfs() {
+        int current = scratch.stack.pop();
+        int currentDepth = depths.pop();
+        lastDepth = currentDepth;
+        if (maxDepth != Integer.MAX_VALUE) {
+            scratch.order[current] = ~currentDepth;
+            expandLimitedDfs(current, currentDepth);
+        } else {
+            VisitMarks marks = scratch.visited;
+            for (long e = adj.edgeEnd(current) - 1, first = adj.edgeStart(current); e >= first; e--) {
+                int next = adj.target(e);
+                if (marks.mark(next)) {
+                    scratch.stack.push(next);
+                    depths.push(currentDepth + 1);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Pops stack entries until the top is a vertex not yet returned. An entry is dropped if a
+     * shorter path pushed its vertex again. An entry for a returned vertex is expanded
+     * without being returned.
+     */
+    private void skipReturnedDfs() {
+        IntStack stack = scratch.stack;
+        int[] best = scratch.order;
+        while (!stack.isEmpty()) {
+            int vertex = stack.peek();
+            int vertexDepth = depths.peek();
+            int recorded = best[vertex];
+            if (recorded == vertexDepth) return;
+            stack.pop();
+            depths.pop();
+            if (recorded == ~vertexDepth) expandLimitedDfs(vertex, vertexDepth);
+        }
+    }
+
+    /** Pushes each neighbor not yet reached within currentDepth + 1 hops. */
+    private void expandLimitedDfs(int current, int currentDepth) {
+        if (currentDepth >= maxDepth) return;
+        VisitMarks marks = scratch.visited;
+        int[] best = scratch.order;
+        int nextDepth = currentDepth + 1;
+        for (long e = adj.edgeEnd(current) - 1, first = adj.edgeStart(current); e >= first; e--) {
+            int next = adj.target(e);
+            if (marks.mark(next)) {
+                best[next] = nextDepth;
+            } else {
+                int recorded = best[next];
+                if (recorded >= 0) {
+                    if (nextDepth >= recorded) continue;
+                    best[next] = nextDepth;
+                } else {
+                    if (nextDepth >= ~recorded) continue;
+                    best[next] = ~nextDepth;
+                }
+            }
+            scratch.stack.push(next);
+            depths.push(nextDepth);
+        }
+    }
+
+    /**
+     * Hop distance from the start of the vertex most recently returned. For DFS this is the
+     * depth of the path that first reached it, which a shorter path found later may undercut.
+     */
+    public int depth() {
+        return lastDepth;
+    }
+
+    /** Number of vertices returned so far. */
+    public int visitedCount() {
+        return visited;
+    }
+
+    /** Whether the stopAt predicate matched a returned vertex. */
+    public boolean foundTarget() {
+        return found;
+    }
+
+    /** The remaining vertices as an ordered stream; closing the stream closes the traversal. */
+    public IntStream stream() {
+        Spliterator.OfInt spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.intStream(spliterator, false).onClose(this::close);
+    }
+
+    /** Ends the traversal early and returns its scratch memory to the graph. */
+    @Override
+    public void close() {
+        if (scratch != null) {
+            TraversalScratch.release(slot, scratch);
+            scratch = null;
+        }
+    }
+
+    private void checkNotStarted() {
+        if (started) throw new IllegalStateException("Traversal already started");
+    }
+}
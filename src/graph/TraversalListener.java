@@ -0,0 +1,18 @@
+package graph;
+
+/**
+ * Callbacks from bfs/dfs, attached with {@link Graph#setTraversalListener(TraversalListener)}.
+ * Calls happen on the querying thread inside the traversal loop, so implementations should be cheap.
+ */
+public interface TraversalListener {
+
+    default void traversalStarted(GraphMetrics.Operation operation, int start) {}
+
+    /** A vertex was taken off the queue or stack and appended to the result. */
+    default void vertexVisited(int vertex) {}
+
+    /** The edge source -> target was read; discovered is true if target was first reached here. */
+    default void edgeScanned(int source, int target, boolean discovered) {}
+
+    default void traversalFinished(QueryStats stats) {}
+}
@@ -0,0 +1,64 @@
+package graph;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-graph working memory for traversals: queue, stack, visit marks, an order buffer,
+ * a priority queue for weighted searches and the two frontiers of point-to-point searches.
+ * Borrowed and returned around each query so repeated queries allocate nothing; a thread
+ * that finds the scratch already borrowed gets a fresh one instead of waiting.
+ */
+final class TraversalScratch {
+    final IntQueue queue;
+    final IntStack stack;
+    final VisitMarks visited;
+    int[] order;
+    private IndexedDHeap heap;
+    private SearchFrontier forward;
+    private SearchFrontier backward;
+
+    private TraversalScratch(int numVertices) {
+        queue = new IntQueue(16);
+        stack = new IntStack(16);
+        visited = new VisitMarks(numVertices);
+        order = new int[numVertices];
+    }
+
+    /** Priority queue for weighted searches, created on first use. */
+    IndexedDHeap heap(int numVertices) {
+        if (heap == null) {
+            heap = new IndexedDHeap(numVertices);
+        } else {
+            heap.ensureCapacity(numVertices);
+        }
+        return heap;
+    }
+
+    /** Frontier grown from the source of a point-to-point search, created on first use. */
+    SearchFrontier forward(int numVertices) {
+        if (forward == null) forward = new SearchFrontier(numVertices);
+        return forward;
+    }
+
+    /** Frontier grown back from the target of a bidirectional search, created on first use. */
+    SearchFrontier backward(int numVertices) {
+        if (backward == null) backward = new SearchFrontier(numVertices);
+        return backward;
+    }
+
+    static TraversalScratch borrow(AtomicReference<TraversalScratch> slot, int numVertices) {
+        TraversalScratch scratch = slot.getAndSet(null);
+        if (scratch == null) scratch = new TraversalScratch(numVertices);
+        if (scratch.order.length < numVertices) {
+            scratch.order = new int[Math.max(numVertices, scratch.order.length + (scratch.order.length >> 1))];
+        }
+        scratch.queue.clear();
+        scratch.stack.clear();
+        scratch.visited.reset(numVertices);
+        return scratch;
+    }
+
+    static void release(AtomicReference<TraversalScratch> slot, TraversalScratch scratch) {
+        slot.set(scratch);
+    }
+}
@@ -0,0 +1,94 @@
+package graph;
+
+/**
+ * The view a {@link VertexProgram} gets of the vertex being computed. One context is reused
+ * for every vertex of a worker, so it must not be kept beyond the compute call.
+ */
+public final class VertexContext {
+    private final BspPartition partition;
+    private final AdjacencyStore adj;
+    int vertex;
+    int superstep;
+    boolean halt;
+
+    VertexContext(BspPartition partition, AdjacencyStore adj) {
+        this.partition = partition;
+        this.adj = adj;
+    }
+
+    /** Index of the vertex being computed. */
+    public int vertex() {
+        return vertex;
+    }
+
+    /** Current superstep, starting at 0. */
+    public int superstep() {
+        return superstep;
+    }
+
+    public int numVertices() {
+        return adj.numVertices();
+    }
+
+    public double value() {
+        return partition.values[vertex - partition.from];
+    }
+
+    public void setValue(double value) {
+        partition.values[vertex - partition.from] = value;
+    }
+
+    /** Whether any message was sent to this vertex in the previous superstep. */
+    public boolean hasMessage() {
+        return partition.hasMessage(vertex);
+    }
+
+    /**
+     * The previous superstep's messages to this vertex, folded by the program's combiner.
+     * Only meaningful when {@link #hasMessage()} is true.
+     */
+    public double message() {
+        return partition.message(vertex);
+    }
+
+    /** Number of out-edges. */
+    public int degree() {
+        return adj.degree(vertex);
+    }
+
+    /** Target of the i-th out-edge, in ascending target order. */
+    public int neighbor(int i) {
+        return adj.target(edge(i));
+    }
+
+    public double weight(int i) {
+        return adj.weight(edge(i));
+    }
+
+    private long edge(int i) {
+        if (i < 0 || i >= adj.degree(vertex)) {
+            throw new IndexOutOfBoundsException("Edge " + i + " of vertex " + vertex);
+        }
+        return adj.edgeStart(vertex) + i;
+    }
+
+    /** Sends a message that the target receives in the next superstep. */
+    public void sendTo(int target, double message) {
+        if (target < 0 || target >= adj.numVertices()) {
+            throw new IndexOutOfBoundsException("Vertex " + target);
+        }
+        partition.send(target, message);
+    }
+
+    /** Sends the same message along every out-edge. */
+    public void sendToNeighbors(double message) {
+        for (long e = adj.edgeStart(vertex), end = adj.edgeEnd(vertex); e < end; e++) {
+            partition.send(adj.target(e), message);
+        }
+    }
+
+    /** Deactivates the vertex until a message arrives. */
+    public void voteToHalt() {
+        halt = true;
+    }
+}
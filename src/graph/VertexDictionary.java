@@ -0,0 +1,206 @@
+package graph;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Vertex names by index and indices by name, without boxing.
+ *
+ * Names sit in a contiguous array in index order. The reverse lookup is an open-addressing
+ * table of int slots holding id + 1 (0 for empty), probed linearly and kept at most half full;
+ * each id's hash is cached so most mismatches are rejected without comparing characters.
+ * The hash is String.hashCode, so String keys use their cached hash and any CharSequence or
+ * ASCII byte slice hashes to the same value without creating a String.
+ *
+ * Removing a name leaves its index as an empty slot; indices are never reused.
+ */
+final class VertexDictionary {
+    private String[] names;
+    private int[] hashes;
+    private int size;
+    private int removed;
+
+    private int[] slots;
+
+    VertexDictionary(int expectedSize) {
+        int capacity = Math.max(expectedSize, 4);
+        names = new String[capacity];
+        hashes = new int[capacity];
+        slots = new int[tableSizeFor(capacity)];
+    }
+
+    /** Dictionary of the given names, indexed by list position; null entries are removed slots. */
+    static VertexDictionary of(java.util.List<String> vertices) {
+        VertexDictionary dictionary = new VertexDictionary(vertices.size());
+        for (String name : vertices) {
+            if (name == null) {
+                dictionary.addRemoved();
+            } else {
+                dictionary.add(name);
+            }
+        }
+        return dictionary;
+    }
+
+    /** Number of indices handed out, including removed ones. */
+    int size() {
+        return size;
+    }
+
+    /** Number of names currently present. */
+    int liveSize() {
+        return size - removed;
+    }
+
+    boolean isRemoved(int index) {
+        return names[index] == null;
+    }
+
+    /**
+     * Adds a new name and returns its index.
+     * @throws IllegalArgumentException if the name is already present
+     */
+    int add(String name) {
+        Objects.requireNonNull(name, "Vertex name must not be null");
+        int hash = name.hashCode();
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        for (int entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (hashes[entry - 1] == hash && names[entry - 1].equals(name)) {
+                throw new IllegalArgumentException("Duplicate vertex name: " + name);
+            }
+        }
+        int id = allocate();
+        names[id] = name;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        if (liveSize() * 2 > slots.length) rehash();
+        return id;
+    }
+
+    /** Allocates an index that starts out removed, keeping later indices aligned. */
+    private void addRemoved() {
+        allocate();
+        removed++;
+    }
+
+    private int allocate() {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size + (size >> 1) + 1);
+            hashes = Arrays.copyOf(hashes, names.length);
+        }
+        return size++;
+    }
+
+    /**
+     * Removes the name at index; the index stays allocated with no name.
+     * @return false if it was already removed
+     */
+    boolean remove(int index) {
+        Objects.checkIndex(index, size);
+        if (names[index] == null) return false;
+        int mask = slots.length - 1;
+        int hole = spread(hashes[index]) & mask;
+        while (slots[hole] != index + 1) hole = (hole + 1) & mask;
+
+        // Backward-shift deletion keeps probe runs unbroken without tombstones
+        for (int next = (hole + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            int home = spread(hashes[slots[next] - 1]) & mask;
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = 0;
+        names[index] = null;
+        removed++;
+        return true;
+    }
+
+    /** Name at the index, or null if it was removed. */
+    String name(int index) {
+        Objects.checkIndex(index, size);
+        return names[index];
+    }
+
+    /** Index of the name, or -1 if absent. */
+    int indexOf(String name) {
+        if (name == null) return -1;
+        int hash = name.hashCode();
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask, entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (hashes[entry - 1] == hash && names[entry - 1].equals(name)) return entry - 1;
+        }
+        return -1;
+    }
+
+    /** Index of the name given as any CharSequence, or -1 if absent. */
+    int indexOf(CharSequence name) {
+        if (name instanceof String) return indexOf((String) name);
+        if (name == null) return -1;
+        int hash = 0;
+        for (int i = 0, length = name.length(); i < length; i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask, entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (hashes[entry - 1] == hash && names[entry - 1].contentEquals(name)) return entry - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the UTF-8 name in buffer[from, to), or -1 if absent. ASCII names are matched
+     * byte for byte without allocating; other names are decoded first.
+     */
+    int indexOf(ByteBuffer buffer, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b < 0) {
+                CharBuffer decoded = StandardCharsets.UTF_8.decode(buffer.duplicate().limit(to).position(from));
+                return indexOf(decoded);
+            }
+            hash = 31 * hash + b;
+        }
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask, entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (hashes[entry - 1] == hash && matchesAscii(names[entry - 1], buffer, from, to)) return entry - 1;
+        }
+        return -1;
+    }
+
+    private static boolean matchesAscii(String name, ByteBuffer buffer, int from, int to) {
+        if (name.length() != to - from) return false;
+        for (int i = from; i < to; i++) {
+            if (name.charAt(i - from) != buffer.get(i)) return false;
+        }
+        return true;
+    }
+
+    private void rehash() {
+        int[] grown = new int[slots.length << 1];
+        int mask = grown.length - 1;
+        for (int id = 0; id < size; id++) {
+            if (names[id] == null) continue;
+            int slot = spread(hashes[id]) & mask;
+            while (grown[slot] != 0) slot = (slot + 1) & mask;
+            grown[slot] = id + 1;
+        }
+        slots = grown;
+    }
+
+    // String.hashCode clusters in the low bits for short names; mix before masking
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int entries) {
+        return Integer.highestOneBit(Math.max(entries * 2 - 1, 1)) << 1;
+    }
+}
@@ -0,0 +1,52 @@
+package graph;
+
+import java.io.Serializable;
+
+/**
+ * A vertex-centric algorithm for the bulk-synchronous engine behind
+ * {@link Graph#runVertexProgram(VertexProgram, int, int)}.
+ *
+ * Every vertex holds one double value. In each superstep the engine calls
+ * {@link #compute(VertexContext)} for every vertex that is active or has a message; the
+ * vertex reads the combined message sent to it in the previous superstep, may update its
+ * value, sends messages for the next superstep, and may vote to halt. A halted vertex is
+ * woken again by the next message sent to it. The run ends when every vertex has halted and
+ * no messages are in flight, or after the superstep limit.
+ *
+ * Messages to the same vertex are folded with {@link #combiner()} before they leave the
+ * sending worker, so a vertex sees at most one message per superstep. Programs are
+ * serialized to reach worker processes and must be on their classpath.
+ */
+public interface VertexProgram extends Serializable {
+
+    /** Folds messages addressed to the same vertex into one. */
+    enum Combiner {
+        MIN {
+            @Override
+            public double combine(double a, double b) {
+                return Math.min(a, b);
+            }
+        },
+        MAX {
+            @Override
+            public double combine(double a, double b) {
+                return Math.max(a, b);
+            }
+        },
+        SUM {
+            @Override
+            public double combine(double a, double b) {
+                return a + b;
+            }
+        };
+
+        public abstract double combine(double a, double b);
+    }
+
+    Combiner combiner();
+
+    /** Value of the vertex before superstep 0. */
+    double initialValue(int vertex, int numVertices);
+
+    void compute(VertexContext context);
+}
@@ -0,0 +1,130 @@
+package graph;
+
+/**
+ * Ready-made {@link VertexProgram}s.
+ */
+public final class VertexPrograms {
+
+    private VertexPrograms() {
+    }
+
+    /**
+     * Connected components by min-label propagation: every vertex starts with its own index
+     * as label and adopts the smallest label it hears, so each component ends up labelled
+     * with its smallest vertex. Labels flow along out-edges, so on a directed graph a vertex
+     * gets the smallest label that can reach it.
+     */
+    public static VertexProgram connectedComponents() {
+        return new MinLabel();
+    }
+
+    /**
+     * Single-source shortest path distances by distributed Bellman-Ford, infinite where
+     * unreachable. Converges in at most (hops on the longest shortest path + 1) supersteps;
+     * a reachable negative cycle keeps it running until the superstep limit.
+     */
+    public static VertexProgram shortestPaths(int source) {
+        return new ShortestDistances(source);
+    }
+
+    /**
+     * PageRank over a fixed number of iterations, starting from 1 / n everywhere.
+     * Rank held by vertices without out-edges is not redistributed.
+     * @param damping Probability of following an edge rather than jumping, usually 0.85
+     */
+    public static VertexProgram pageRank(int iterations, double damping) {
+        if (iterations < 0) throw new IllegalArgumentException("Iterations must not be negative: " + iterations);
+        return new PageRank(iterations, damping);
+    }
+
+    private static final class MinLabel implements VertexProgram {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Combiner combiner() {
+            return Combiner.MIN;
+        }
+
+        @Override
+        public double initialValue(int vertex, int numVertices) {
+            return vertex;
+        }
+
+        @Override
+        public void compute(VertexContext context) {
+            if (context.superstep() == 0) {
+                context.sendToNeighbors(context.value());
+            } else if (context.message() < context.value()) {
+                context.setValue(context.message());
+                context.sendToNeighbors(context.value());
+            }
+            context.voteToHalt();
+        }
+    }
+
+    private static final class ShortestDistances implements VertexProgram {
+        private static final long serialVersionUID = 1L;
+        private final int source;
+
+        ShortestDistances(int source) {
+            this.source = source;
+        }
+
+        @Override
+        public Combiner combiner() {
+            return Combiner.MIN;
+        }
+
+        @Override
+        public double initialValue(int vertex, int numVertices) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public void compute(VertexContext context) {
+            double best = context.hasMessage() ? context.message() : Double.POSITIVE_INFINITY;
+            if (context.superstep() == 0 && context.vertex() == source) best = 0;
+            if (best < context.value()) {
+                context.setValue(best);
+                for (int i = 0; i < context.degree(); i++) {
+                    context.sendTo(context.neighbor(i), best + context.weight(i));
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    private static final class PageRank implements VertexProgram {
+        private static final long serialVersionUID = 1L;
+        private final int iterations;
+        private final double damping;
+
+        PageRank(int iterations, double damping) {
+            this.iterations = iterations;
+            this.damping = damping;
+        }
+
+        @Override
+        public Combiner combiner() {
+            return Combiner.SUM;
+        }
+
+        @Override
+        public double initialValue(int vertex, int numVertices) {
+            return 1.0 / numVertices;
+        }
+
+        @Override
+        public void compute(VertexContext context) {
+            if (context.superstep() > 0) {
+                double incoming = context.hasMessage() ? context.message() : 0;
+                context.setValue((1 - damping) / context.numVertices() + damping * incoming);
+            }
+            if (context.superstep() < iterations && context.degree() > 0) {
+                context.sendToNeighbors(context.value() / context.degree());
+            } else if (context.superstep() >= iterations) {
+                context.voteToHalt();
+            }
+        }
+    }
+}
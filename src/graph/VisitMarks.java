@@ -0,0 +1,41 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Reusable visited set over vertex indices. A vertex counts as visited when its stamp
+ * equals the current epoch, so starting a new traversal is O(1) instead of clearing an array.
+ */
+final class VisitMarks {
+    private int[] stamps;
+    private int epoch;
+
+    VisitMarks(int numVertices) {
+        stamps = new int[numVertices];
+    }
+
+    /** Forget all marks, growing to cover numVertices if needed. */
+    void reset(int numVertices) {
+        if (stamps.length < numVertices) {
+            // Grow geometrically so graphs that gain vertices one at a time reallocate rarely
+            stamps = new int[Math.max(numVertices, stamps.length + (stamps.length >> 1))];
+            epoch = 0;
+        }
+        if (++epoch == 0) {
+            // Wrapped after 2^32 resets: clear once and start over
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+
+    /** Marks the vertex, returning true if it was not already marked. */
+    boolean mark(int vertex) {
+        if (stamps[vertex] == epoch) return false;
+        stamps[vertex] = epoch;
+        return true;
+    }
+
+    boolean isMarked(int vertex) {
+        return stamps[vertex] == epoch;
+    }
+}
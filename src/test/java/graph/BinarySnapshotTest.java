@@ -0,0 +1,146 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySnapshotTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsVerticesEdgesAndDirection() throws IOException {
+        Random random = new Random(21);
+        for (boolean directed : new boolean[]{false, true}) {
+            Graph graph = TestGraphs.random(random, 500, 2000, directed);
+            graph.addVertex("café ☃");
+            graph.addEdge("café ☃", "v7", 2.5);
+            graph.removeVertex("v3");
+
+            Path file = dir.resolve("graph-" + directed + ".snapshot");
+            graph.writeSnapshot(file);
+            Graph copy = BinarySnapshot.open(file, true);
+
+            assertEquals(directed, copy.isDirected());
+            assertSameGraph(graph, copy);
+            assertNull(copy.getVertexName(3));
+            assertEquals(graph.getVertexCount(), copy.getVertexCount());
+            assertArrayEquals(graph.bfsIndices(0), copy.bfsIndices(0));
+        }
+    }
+
+    @Test
+    void reopenedSnapshotAcceptsNewEdges() throws IOException {
+        Graph graph = new Graph(TestGraphs.names(4), false);
+        graph.addEdge("v0", "v1", 1);
+        Path file = dir.resolve("small.snapshot");
+        graph.writeSnapshot(file);
+
+        Graph copy = Graph.openSnapshot(file);
+        copy.addEdge("v2", "v3", 4);
+        assertEquals(1, copy.getEdgeWeight(1, 0));
+        assertEquals(4, copy.getEdgeWeight(3, 2));
+        assertEquals(2, copy.componentCount());
+    }
+
+    @Test
+    void offHeapGraphRoundTrips() throws IOException {
+        Random random = new Random(22);
+        Graph graph = Graph.offHeap(TestGraphs.names(300), true);
+        for (int e = 0; e < 1500; e++) {
+            graph.addEdge("v" + random.nextInt(300), "v" + random.nextInt(300), 1 + random.nextInt(9));
+        }
+        Path file = dir.resolve("offheap.snapshot");
+        graph.writeSnapshot(file);
+        assertSameGraph(graph, Graph.openSnapshot(file));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = dir.resolve("text.snapshot");
+        Files.writeString(file, "a b 1\n".repeat(20));
+        assertThrows(IOException.class, () -> Graph.openSnapshot(file));
+    }
+
+    @Test
+    void rejectsTruncatedSnapshots() throws IOException {
+        Path file = writeSample("truncated.snapshot");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 8);
+        }
+        IOException error = assertThrows(IOException.class, () -> Graph.openSnapshot(file));
+        assertTrue(error.getMessage().contains("Truncated"), error.getMessage());
+    }
+
+    @Test
+    void rejectsMangledHeaders() throws IOException {
+        // Header fields: vertex count at 12, section offsets at 24, 32, 40 and 48
+        long[][] patches = {{12, -1}, {24, 72}, {32, 65}, {40, 8}};
+        for (long[] patch : patches) {
+            Path file = writeSample("mangled-" + patch[0] + ".snapshot");
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                ByteBuffer value = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                if (patch[0] == 12) {
+                    value.putInt((int) patch[1]).putInt(0).flip();
+                    raf.seek(patch[0]);
+                    raf.write(value.array(), 0, 4);
+                } else {
+                    value.putLong(patch[1]).flip();
+                    raf.seek(patch[0]);
+                    raf.write(value.array());
+                }
+            }
+            assertThrows(IOException.class, () -> Graph.openSnapshot(file), "patch at " + patch[0]);
+        }
+    }
+
+    @Test
+    void verifyingDetectsCorruptBody() throws IOException {
+        Path file = writeSample("corrupt.snapshot");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            long last = raf.length() - 1;
+            raf.seek(last);
+            int b = raf.read();
+            raf.seek(last);
+            raf.write(b ^ 0x55);
+        }
+        Graph.openSnapshot(file);
+        assertThrows(IOException.class, () -> BinarySnapshot.open(file, true));
+    }
+
+    private Path writeSample(String name) throws IOException {
+        Graph graph = new Graph(List.of("a", "b", "c", "d"), true);
+        graph.addEdge("a", "b", 1);
+        graph.addEdge("b", "c", 2);
+        graph.addEdge("c", "d", 3);
+        Path file = dir.resolve(name);
+        graph.writeSnapshot(file);
+        return file;
+    }
+
+    private static void assertSameGraph(Graph expected, Graph actual) {
+        assertEquals(expected.getNumVertices(), actual.getNumVertices());
+        AdjacencyStore a = expected.store();
+        AdjacencyStore b = actual.store();
+        assertEquals(a.numEdges(), b.numEdges());
+        for (int v = 0; v < expected.getNumVertices(); v++) {
+            assertEquals(expected.getVertexName(v), actual.getVertexName(v));
+            assertEquals(a.edgeStart(v), b.edgeStart(v));
+            assertEquals(a.edgeEnd(v), b.edgeEnd(v));
+        }
+        for (long e = 0; e < a.numEdges(); e++) {
+            assertEquals(a.target(e), b.target(e));
+            assertEquals(a.weight(e), b.weight(e));
+        }
+    }
+}
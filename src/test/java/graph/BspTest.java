@@ -0,0 +1,71 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BspTest {
+
+    @Test
+    void componentsMatchConnectivityIndex() {
+        Random random = new Random(41);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(1000);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(n + 1), false);
+            int[] smallest = smallestInComponent(graph);
+            for (int workers = 1; workers <= 8; workers *= 2) {
+                BspResult result = graph.runVertexProgram(VertexPrograms.connectedComponents(), workers, 10 * n);
+                assertTrue(result.isConverged());
+                for (int v = 0; v < n; v++) {
+                    assertEquals(smallest[v], (int) result.getValue(v), "trial " + trial + " vertex " + v);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shortestPathsMatchDijkstra() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(800);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(4 * n + 1), trial % 2 == 0);
+            int source = random.nextInt(n);
+            ShortestPaths expected = graph.shortestPaths(source, -1);
+            for (int workers = 1; workers <= 8; workers *= 2) {
+                BspResult result = graph.runVertexProgram(VertexPrograms.shortestPaths(source), workers, 10 * n);
+                assertTrue(result.isConverged());
+                for (int v = 0; v < n; v++) {
+                    assertEquals(expected.getDistance(v), result.getValue(v), 1e-9, "trial " + trial + " vertex " + v);
+                }
+            }
+        }
+    }
+
+    @Test
+    void workerProcessesMatchInProcessRun() throws IOException {
+        Graph graph = TestGraphs.random(new Random(43), 300, 200, false);
+        BspResult threads = graph.runVertexProgram(VertexPrograms.connectedComponents(), 2, 3000);
+        BspResult processes = graph.runVertexProgramInProcesses(VertexPrograms.connectedComponents(), 2, 3000);
+        assertTrue(processes.isConverged());
+        assertArrayEquals(threads.getValues(), processes.getValues());
+    }
+
+    /** The smallest vertex index in each vertex's component, from the graph's connectivity index. */
+    private static int[] smallestInComponent(Graph graph) {
+        int n = graph.getNumVertices();
+        int[] smallest = new int[n];
+        for (int v = 0; v < n; v++) {
+            smallest[v] = v;
+            for (int u = 0; u < v; u++) {
+                if (graph.connected("v" + u, "v" + v)) {
+                    smallest[v] = u;
+                    break;
+                }
+            }
+        }
+        return smallest;
+    }
+}
@@ -0,0 +1,87 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeIndexTest {
+
+    @Test
+    void matchesHashMapUnderPutRemoveAndReAdd() {
+        Random random = new Random(31);
+        // Starts small so the table rehashes several times along the way
+        EdgeIndex index = new EdgeIndex(4);
+        Map<Long, Double> expected = new HashMap<>();
+        for (int op = 0; op < 200_000; op++) {
+            // Few distinct vertices so pairs are removed and re-added often
+            int source = random.nextInt(300);
+            int target = random.nextInt(300);
+            long key = (long) source << 32 | target;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, index.remove(source, target));
+                assertFalse(index.contains(source, target));
+                assertEquals(Double.POSITIVE_INFINITY, index.weight(source, target));
+            } else {
+                double weight = random.nextInt(100);
+                assertEquals(expected.put(key, weight) == null, index.put(source, target, weight));
+                assertEquals(weight, index.weight(source, target));
+            }
+            assertEquals(expected.size(), index.size());
+        }
+        for (int source = 0; source < 300; source++) {
+            for (int target = 0; target < 300; target++) {
+                Double weight = expected.get((long) source << 32 | target);
+                assertEquals(weight != null, index.contains(source, target));
+                assertEquals(weight == null ? Double.POSITIVE_INFINITY : weight, index.weight(source, target));
+            }
+        }
+    }
+
+    @Test
+    void reAddAfterRemoveIsANewEdge() {
+        EdgeIndex index = new EdgeIndex(8);
+        assertTrue(index.put(1, 2, 5));
+        assertFalse(index.put(1, 2, 7));
+        assertEquals(7, index.weight(1, 2));
+        assertTrue(index.remove(1, 2));
+        assertFalse(index.remove(1, 2));
+        assertTrue(index.put(1, 2, 3));
+        assertEquals(3, index.weight(1, 2));
+        assertEquals(1, index.size());
+        assertFalse(index.contains(2, 1));
+    }
+
+    @Test
+    void removeKeepsCollidingEntriesReachable() {
+        // A tiny table forces long probe runs that deletion has to shift back
+        EdgeIndex index = new EdgeIndex(1);
+        for (int i = 0; i < 64; i++) index.put(0, i, i);
+        for (int i = 0; i < 64; i += 2) assertTrue(index.remove(0, i));
+        for (int i = 0; i < 64; i++) {
+            assertEquals(i % 2 == 1, index.contains(0, i));
+        }
+        for (int i = 0; i < 64; i += 2) assertTrue(index.put(0, i, -i));
+        for (int i = 0; i < 64; i++) {
+            assertEquals(i % 2 == 1 ? i : -i, index.weight(0, i));
+        }
+        assertEquals(64, index.size());
+    }
+
+    @Test
+    void buildIndexesEveryStoredEdge() {
+        Random random = new Random(32);
+        Graph graph = TestGraphs.random(random, 200, 1000, true);
+        AdjacencyStore adj = graph.store();
+        EdgeIndex index = EdgeIndex.build(adj);
+        assertEquals(adj.numEdges(), index.size());
+        for (int u = 0; u < adj.numVertices(); u++) {
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                assertEquals(adj.weight(e), index.weight(u, adj.target(e)));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package graph;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBfsTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void parallelBfsMatchesSequentialOrder() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 40; trial++) {
+            int n = 1 + random.nextInt(3000);
+            // Dense trials push the search into its bottom-up steps
+            int edges = trial % 4 == 0 ? n * 12 : random.nextInt(3 * n + 1);
+            Graph graph = TestGraphs.random(random, n, edges, trial % 2 == 0);
+            int start = random.nextInt(n);
+
+            BfsLevels levels = graph.parallelBfsLevels(start, pool);
+            assertArrayEquals(graph.bfsIndices(start), levels.getOrder(), "trial " + trial);
+        }
+    }
+
+    @Test
+    void parallelBfsLevelsHoldVerticesAtTheirHopDistance() {
+        Random random = new Random(2);
+        Graph graph = TestGraphs.random(random, 2000, 8000, true);
+        BfsLevels levels = graph.parallelBfsLevels(0, pool);
+        int[] distance = TestGraphs.hopDistances(graph, 0);
+        for (int level = 0; level < levels.getLevelCount(); level++) {
+            for (int v : levels.getLevel(level)) {
+                assertEquals(level, distance[v]);
+            }
+        }
+    }
+
+    @Test
+    void multiSourceBfsMatchesOneBfsPerSource() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 10; trial++) {
+            int n = 1 + random.nextInt(1500);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(4 * n + 1), trial % 2 == 1);
+            // More than one 256-lane batch, with duplicates
+            int[] starts = new int[1 + random.nextInt(600)];
+            for (int i = 0; i < starts.length; i++) starts[i] = random.nextInt(n);
+
+            HopDistances hops = graph.multiSourceBfs(starts, pool);
+            assertEquals(starts.length, hops.getSourceCount());
+            for (int i = 0; i < starts.length; i++) {
+                assertEquals(starts[i], hops.getSource(i));
+                int[] expected = TestGraphs.hopDistances(graph, starts[i]);
+                assertArrayEquals(expected, hops.getDistances(i), "trial " + trial + " source " + i);
+                assertEquals(graph.bfsIndices(starts[i]).length, hops.getReachedCount(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointToPointTest {
+
+    @Test
+    void bidirectionalDijkstraMatchesDijkstra() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 30; trial++) {
+            int n = 2 + random.nextInt(400);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(4 * n), trial % 2 == 0);
+            for (int query = 0; query < 20; query++) {
+                int source = random.nextInt(n);
+                int target = random.nextInt(n);
+                ShortestPaths expected = graph.shortestPaths(source, -1);
+                assertRoute(graph, expected, graph.bidirectionalDijkstra(source, target));
+            }
+        }
+    }
+
+    @Test
+    void aStarMatchesDijkstra() {
+        Random random = new Random(12);
+        for (int trial = 0; trial < 30; trial++) {
+            int n = 2 + random.nextInt(300);
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int v = 0; v < n; v++) {
+                xs[v] = random.nextDouble() * 100;
+                ys[v] = random.nextDouble() * 100;
+            }
+            Graph graph = new Graph(TestGraphs.names(n), trial % 2 == 0);
+            for (int e = 0, m = random.nextInt(4 * n); e < m; e++) {
+                int u = random.nextInt(n);
+                int v = random.nextInt(n);
+                // Weights at least the straight-line length keep the heuristic admissible
+                double length = Math.hypot(xs[u] - xs[v], ys[u] - ys[v]);
+                graph.addEdge("v" + u, "v" + v, Math.ceil(length) + random.nextInt(5));
+            }
+            Heuristic heuristic = Heuristic.euclidean(graph, xs, ys);
+            for (int query = 0; query < 20; query++) {
+                int source = random.nextInt(n);
+                int target = random.nextInt(n);
+                ShortestPaths expected = graph.shortestPaths(source, -1);
+                assertRoute(graph, expected, graph.aStar(source, target, heuristic));
+                assertRoute(graph, expected, graph.aStar(source, target, Heuristic.NONE));
+            }
+        }
+    }
+
+    @Test
+    void bidirectionalBfsFindsFewestHops() {
+        Random random = new Random(13);
+        for (int trial = 0; trial < 30; trial++) {
+            int n = 2 + random.nextInt(500);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(3 * n), trial % 2 == 0);
+            int source = random.nextInt(n);
+            int[] hops = TestGraphs.hopDistances(graph, source);
+            for (int query = 0; query < 20; query++) {
+                int target = random.nextInt(n);
+                Route route = graph.bidirectionalBfs(source, target);
+                assertEquals(hops[target] >= 0, route.hasPath());
+                if (route.hasPath()) {
+                    assertEquals(hops[target], route.getHops());
+                    assertPathFollowsEdges(graph, route);
+                }
+            }
+        }
+    }
+
+    /** The route has Dijkstra's cost, and its path follows real edges that add up to it. */
+    private static void assertRoute(Graph graph, ShortestPaths expected, Route route) {
+        int target = route.getTarget();
+        assertEquals(expected.hasPathTo(target), route.hasPath(), "reachability of " + target);
+        if (!route.hasPath()) return;
+        assertEquals(expected.getDistance(target), route.getCost(), 1e-9);
+        double cost = assertPathFollowsEdges(graph, route);
+        assertEquals(route.getCost(), cost, 1e-9);
+    }
+
+    private static double assertPathFollowsEdges(Graph graph, Route route) {
+        int[] path = route.getPath();
+        assertEquals(route.getSource(), path[0]);
+        assertEquals(route.getTarget(), path[path.length - 1]);
+        double cost = 0;
+        for (int i = 1; i < path.length; i++) {
+            double weight = graph.getEdgeWeight(path[i - 1], path[i]);
+            assertNotEquals(Double.POSITIVE_INFINITY, weight, "no edge " + path[i - 1] + " -> " + path[i]);
+            cost += weight;
+        }
+        return cost;
+    }
+}
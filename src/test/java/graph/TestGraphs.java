@@ -0,0 +1,51 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded random graphs and a plain BFS to check the optimized searches against.
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    static List<String> names(int n) {
+        List<String> names = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) names.add("v" + i);
+        return names;
+    }
+
+    /** n vertices and about edges random edges with integer weights 1 to 9. */
+    static Graph random(Random random, int n, int edges, boolean directed) {
+        Graph graph = new Graph(names(n), directed);
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge("v" + random.nextInt(n), "v" + random.nextInt(n), 1 + random.nextInt(9));
+        }
+        return graph;
+    }
+
+    /** Hop distance from start to every vertex over the graph's current edges, -1 if unreachable. */
+    static int[] hopDistances(Graph graph, int start) {
+        AdjacencyStore adj = graph.store();
+        int[] distance = new int[adj.numVertices()];
+        java.util.Arrays.fill(distance, -1);
+        int[] queue = new int[adj.numVertices()];
+        int head = 0, tail = 0;
+        distance[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int u = queue[head++];
+            for (long e = adj.edgeStart(u), end = adj.edgeEnd(u); e < end; e++) {
+                int v = adj.target(e);
+                if (distance[v] < 0) {
+                    distance[v] = distance[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,50 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraversalTest {
+
+    @Test
+    void unlimitedTraversalsMatchIndexOrders() {
+        Random random = new Random(51);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(500);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(3 * n + 1), trial % 2 == 0);
+            int start = random.nextInt(n);
+            assertArrayEquals(graph.bfsIndices(start), graph.traverse(start, Traversal.Order.BFS).stream().toArray());
+            assertArrayEquals(graph.dfsIndices(start), graph.traverse(start, Traversal.Order.DFS).stream().toArray());
+        }
+    }
+
+    @Test
+    void depthLimitedDfsVisitsEveryVertexWithinTheLimit() {
+        Random random = new Random(52);
+        for (int trial = 0; trial < 300; trial++) {
+            int n = 1 + random.nextInt(60);
+            Graph graph = TestGraphs.random(random, n, random.nextInt(3 * n + 1), trial % 2 == 0);
+            int start = random.nextInt(n);
+            int limit = random.nextInt(6);
+            int[] hops = TestGraphs.hopDistances(graph, start);
+
+            boolean[] seen = new boolean[n];
+            int count = 0;
+            Traversal dfs = graph.traverse(start, Traversal.Order.DFS).maxDepth(limit);
+            while (dfs.hasNext()) {
+                int v = dfs.nextInt();
+                assertFalse(seen[v], "vertex " + v + " returned twice");
+                seen[v] = true;
+                count++;
+                assertTrue(dfs.depth() <= limit);
+                assertTrue(dfs.depth() >= hops[v]);
+            }
+            for (int v = 0; v < n; v++) {
+                assertEquals(hops[v] >= 0 && hops[v] <= limit, seen[v], "trial " + trial + " vertex " + v);
+            }
+            assertTrue(count > 0);
+        }
+    }
+}